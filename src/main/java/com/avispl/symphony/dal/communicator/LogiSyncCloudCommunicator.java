@@ -9,11 +9,26 @@ import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
 import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
-import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.avispl.symphony.dal.communicator.concurrent.CollectorExecutors;
+import com.avispl.symphony.dal.communicator.concurrent.ForkJoinMapper;
+import com.avispl.symphony.dal.communicator.data.AdapterResourcesCache;
 import com.avispl.symphony.dal.communicator.data.Constants;
+import com.avispl.symphony.dal.communicator.data.DynamicStatisticsDeadband;
+import com.avispl.symphony.dal.communicator.data.MemoryLimitPolicy;
+import com.avispl.symphony.dal.communicator.data.OrganizationState;
+import com.avispl.symphony.dal.communicator.data.PropertyGroupsFilter;
+import com.avispl.symphony.dal.communicator.data.RecordingMode;
+import com.avispl.symphony.dal.communicator.http.ApiCallStatistics;
+import com.avispl.symphony.dal.communicator.http.ApiRecordingInterceptor;
 import com.avispl.symphony.dal.communicator.http.LogiSyncCloudRequestInterceptor;
+import com.avispl.symphony.dal.communicator.http.TcpPing;
+import com.avispl.symphony.dal.communicator.management.LogiSyncCloudCollectorMXBean;
+import com.avispl.symphony.dal.communicator.profiling.CycleDiagnostics;
+import com.avispl.symphony.dal.communicator.profiling.CycleProfiler;
+import com.avispl.symphony.dal.communicator.profiling.MemoryEstimator;
 import com.avispl.symphony.dal.util.StringUtils;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.cookie.StandardCookieSpec;
@@ -22,6 +37,7 @@ import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
 import org.apache.hc.core5.pool.PoolReusePolicy;
@@ -37,19 +53,22 @@ import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 import javax.net.ssl.*;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringReader;
-import java.net.Socket;
-import java.net.SocketTimeoutException;
+import java.lang.management.ManagementFactory;
 import java.security.KeyStore;
 import java.security.PrivateKey;
 import java.security.Security;
 import java.security.cert.X509Certificate;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -70,28 +89,56 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
     /** Adapter metadata properties - adapter version and build date*/
     private Properties adapterProperties;
 
-    /** Device property processor, that uses yml mapping to extract properties from json*/
+    /** Device property processor, that uses yml mapping to extract properties from json, created on init */
     private AggregatedDeviceProcessor aggregatedDeviceProcessor;
 
 
-    /** Aggregated devices cache */
-    private Map<String, AggregatedDevice> aggregatedDevices = new ConcurrentHashMap<>();
+    /** Object mapper to parse raw API responses with */
+    private final ObjectMapper objectMapper = new ObjectMapper();
 
-    /** Latest error instance, that must be propagated to the caller */
-    private Exception latestError;
+    /**
+     * Aggregated devices snapshot. Built by the {@link #deviceDataLoader} off to the side during a collection cycle
+     * and published atomically once the cycle is over. The list is immutable, so it is handed over to the
+     * {@link #retrieveMultipleStatistics()} caller as is.
+     */
+    private final AtomicReference<List<AggregatedDevice>> aggregatedDevicesSnapshot = new AtomicReference<>(Collections.emptyList());
+
+    /**
+     * Latest error instance, that must be propagated to the caller.
+     * Only set when none of the organizations could be collected, errors of individual organizations
+     * are kept in {@link #organizationStates} and reported as statistics.
+     * */
+    private volatile Exception latestError;
 
     /**
      * Interceptor for RestTemplate that injects
      * authorization header and fixes malformed headers sent by XIO backend
      */
-    private ClientHttpRequestInterceptor logiSyncCloudRequestInterceptor = new LogiSyncCloudRequestInterceptor();
+    private ClientHttpRequestInterceptor logiSyncCloudRequestInterceptor;
+
+    /** Statistics of the Logi Sync Cloud API calls, populated by {@link #logiSyncCloudRequestInterceptor} */
+    private final ApiCallStatistics apiCallStatistics = new ApiCallStatistics();
+
+    /**
+     * Whether ping should derive reachability and latency from the first-byte latency of the recent successful API calls,
+     * instead of opening extra TCP connections. Active TCP ping is used if there were no successful API calls
+     * within {@link #PASSIVE_PING_WINDOW}
+     */
+    private boolean passivePing;
+
+    /** Period of time within which a successful API call is considered recent enough for the passive ping */
+    private static final long PASSIVE_PING_WINDOW = 120000;
 
     //********* Adapter Pacing section **********//
+    /*
+     * Pacing state is shared between the devices collection thread and the Symphony calls. It is managed with atomics
+     * only, so #retrieveMultipleStatistics() never waits for a running collection cycle.
+     */
     /**
      * This parameter holds timestamp of when we need to stop performing API calls
      * It used when device stop retrieving statistic. Updated each time of called #retrieveMultipleStatistics
      */
-    private volatile long validRetrieveStatisticsTimestamp;
+    private final AtomicLong validRetrieveStatisticsTimestamp = new AtomicLong();
 
     /**
      * Aggregator inactivity timeout. If the {@link LogiSyncCloudDeviceDataLoader#retrieveMultipleStatistics()}  method is not
@@ -103,6 +150,80 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
     /** List of organizations to be monitored, provided by aggregator properties */
     private List<String> organizationIds = new ArrayList<>();
 
+    /** Collection state of each organization, keyed by organization id */
+    private final Map<String, OrganizationState> organizationStates = new ConcurrentHashMap<>();
+
+    /** Time period to wait before the next collection attempt of an organization that has failed, doubled with each consecutive failure */
+    private long organizationRetryBackoff = 60000;
+
+    /** Max time period to wait before the next collection attempt of an organization that keeps failing */
+    private long organizationRetryBackoffMax = 1800000;
+
+    /**
+     * Min polling interval of an organization, used as long as its devices keep changing. Organizations are never
+     * collected more often than the collection cycles, so the values below the cycle length have no effect.
+     */
+    private long organizationPollIntervalMin = 30000;
+
+    /**
+     * Max polling interval of an organization. Each cycle with no device changes doubles the organization polling
+     * interval, up to this value, any change brings it back to {@link #organizationPollIntervalMin}.
+     * Equal to {@link #organizationPollIntervalMin} by default, so polling is not adapted unless configured.
+     */
+    private long organizationPollIntervalMax = 30000;
+
+    /**
+     * Max estimated heap size of the devices cache, in bytes. Once reached - {@link #deviceCacheMemoryPolicy} is applied
+     * to the devices over the limit. 0 means no limit.
+     */
+    private long deviceCacheMemoryLimit = 0;
+
+    /** Degradation policy to apply to the devices over {@link #deviceCacheMemoryLimit} */
+    private MemoryLimitPolicy deviceCacheMemoryPolicy = MemoryLimitPolicy.DROP_PROPERTIES;
+
+    /**
+     * Time period during which a continuation token of a failed organization collection is considered valid.
+     * Within this period the next attempt resumes from the failed page, otherwise the collection starts over.
+     */
+    private long paginationTokenValidity = 300000;
+
+    /**
+     * Property groups to collect, e.g. Network, Peripheral*, Sensors, Place. Groups that are not listed are removed
+     * from the model mapping on init, so they are never evaluated, formatted or cached. Empty list means all groups.
+     */
+    private List<String> enabledPropertyGroups = new ArrayList<>();
+
+    /** Whether {@link Constants.MappingModels#PLACE} properties are collected, according to {@link #enabledPropertyGroups} */
+    private volatile boolean placePropertiesEnabled = true;
+
+    /**
+     * Deadband thresholds of the device dynamic statistics, as a comma-separated list of name:threshold entries,
+     * e.g. Sensors#CO2(ppm):25,Sensors#Humidity(%):5%,*:0. Empty value means the deadband mode is off,
+     * see {@link DynamicStatisticsDeadband} for details
+     */
+    private String dynamicStatisticsDeadband = "";
+
+    /** Max period in between of two reports of the same dynamic statistic in the deadband mode, in milliseconds */
+    private long dynamicStatisticsHeartbeat = 600000;
+
+    /** Deadband filter of the retrieved dynamic statistics, null if the deadband mode is off */
+    private volatile DynamicStatisticsDeadband deadband;
+
+    /** API responses recording mode, to capture the responses for offline profiling or to replay them */
+    private RecordingMode recordingMode = RecordingMode.OFF;
+
+    /** Path to the API responses recording file, appended to in the Record mode and read in the Replay mode */
+    private String recordingFile = "logisynccloud-recording.jsonl.gz";
+
+    /** Replay speed multiplier: 1 serves the responses with the recorded latency, 0 or less - with no delays */
+    private double replaySpeed = 1;
+
+    /** Names of the JSON fields and headers that are redacted from the recorded responses */
+    private List<String> recordingRedactedFields = new ArrayList<>();
+
+    /** Interceptor for RestTemplate that records or replays the API responses, null if {@link #recordingMode} is Off */
+    private ClientHttpRequestInterceptor apiRecordingInterceptor;
+
     /** Time period to wait in between of different {orgId}/place calls */
     private long placeRetrievalTimeout = 30000;
 
@@ -115,38 +236,114 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
      * collection unless the {@link #retrieveMultipleStatistics()} method is called which will change it
      * to a correct value
      */
-    private volatile boolean devicePaused = true;
+    private final AtomicBoolean devicePaused = new AtomicBoolean(true);
 
     /**
      * We don't want the statistics to be collected constantly, because if there's not a big list of devices -
      * new devices statistics loop will be launched before the next monitoring iteration. To avoid that -
      * this variable stores a timestamp which validates it, so when the devices statistics is done collecting, variable
      * is set to currentTime + 30s, at the same time, calling {@link #retrieveMultipleStatistics()} and updating the
-     * {@link #aggregatedDevices} resets it to the currentTime timestamp, which will re-activate data collection.
+     * {@link #aggregatedDevicesSnapshot} resets it to the currentTime timestamp, which will re-activate data collection.
      */
-    private volatile long nextDevicesCollectionIterationTimestamp;
+    private final AtomicLong nextDevicesCollectionIterationTimestamp = new AtomicLong();
 
     /**
      * How much time last monitoring cycle took to finish
      * */
     private Long lastMonitoringCycleDuration;
+
+    /**
+     * Stage level profile of the latest completed devices collection cycle
+     * */
+    private volatile CycleProfiler.CycleProfile lastCycleProfile;
     //********* END Adapter Pacing section **********//
 
     /**
-     * Executor that runs all the async operations, that {@link #deviceDataLoader} is performing
+     * Executor that runs all the async operations, that {@link #deviceDataLoader} is performing:
+     * the main collection loop and the places pages processing stage.
+     * Backed by virtual threads on Java 21+ runtimes, see {@link CollectorExecutors}.
+     * Created with every {@link #internalInit()} and shut down with every {@link #internalDestroy()}.
      */
     private ExecutorService executorService;
 
     /**
      * Runner service responsible for collecting data
      */
-    private LogiSyncCloudDeviceDataLoader deviceDataLoader;
+    private volatile LogiSyncCloudDeviceDataLoader deviceDataLoader;
+
+    /** Connection manager of the current RestTemplate, closed on {@link #internalDestroy()} to abort requests in progress */
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    /** Min period in between of two devices collection cycles */
+    private static final long COLLECTION_CYCLE_INTERVAL = 30000;
+
+    /** Max time to wait for the collector threads to stop on {@link #internalDestroy()} */
+    private static final long COLLECTOR_TERMINATION_TIMEOUT = 5000;
+
+    /** Max period in between of the collection cancellation and pause checks, while the collector waits */
+    private static final long CANCELLATION_CHECK_INTERVAL = 500;
+
+    /**
+     * Capacity of the hand-off queue between places pages fetching and processing stages.
+     * Once it's full - fetching stage waits for the processing stage to catch up.
+     */
+    private static final int PAGES_QUEUE_CAPACITY = 4;
+
+    /**
+     * Minimal period between two consecutive {orgId}/place requests, according to Logi Sync Cloud Limitation:
+     * Maximum allowed sustained rate is 1 request per second.
+     */
+    private static final long PLACE_REQUEST_INTERVAL = 1000;
+
+    /** Max number of places processed by a single fork-join task, when places are processed in parallel */
+    private static final int PLACES_PER_TASK = 50;
+
+    /** Max value of {@link #placeProcessingParallelism} */
+    private static final int MAX_PLACE_PROCESSING_PARALLELISM = 16;
+
+    /**
+     * Number of threads to process places of a single page with, up to {@link #MAX_PLACE_PROCESSING_PARALLELISM}.
+     * 1 means the places are processed sequentially, by the processing stage thread. Values above the number
+     * of available processors add no throughput, since the places processing is CPU bound.
+     */
+    private int placeProcessingParallelism = 1;
+
+    /** Pool places of a page are processed with, null if {@link #placeProcessingParallelism} is 1 */
+    private volatile ForkJoinPool placesProcessingPool;
+
+    /**
+     * Device processors of the {@link #placesProcessingPool} threads. Processors are not shared between threads,
+     * while the model mapping they use is immutable and is shared between all of them.
+     */
+    private volatile ThreadLocal<AggregatedDeviceProcessor> placeProcessors;
 
     /**
      * Device adapter instantiation timestamp.
      */
     private long adapterInitializationTimestamp;
 
+    /**
+     * Time it took to construct the adapter instance, in nanoseconds
+     */
+    private long adapterConstructionDuration;
+
+    /**
+     * Time it took to construct and initialize the adapter instance, in milliseconds
+     */
+    private volatile long adapterInitDuration;
+
+    /** Id of the organization that is being collected, null if there's no collection in progress */
+    private volatile String currentOrganizationId;
+
+    /** Number of the page that is being collected */
+    private volatile int currentPage;
+
+    /** Timestamp the current throttle wait is over at, 0 if the collector is not throttling */
+    private volatile long throttleEndTimestamp;
+
+    /** Name the {@link LogiSyncCloudCollectorMXBean} of this instance is registered with, null if it's not registered */
+    private ObjectName collectorMXBeanName;
+
     private String apiCertificate;
     private String apiKey;
 
@@ -174,7 +371,9 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
                     try {
                         TimeUnit.MILLISECONDS.sleep(500);
                     } catch (InterruptedException e) {
-                        // Ignore for now
+                        Thread.currentThread().interrupt();
+                        stop();
+                        break mainloop;
                     }
 
                     if (!inProgress) {
@@ -184,14 +383,21 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
 
                     updateAggregatorStatus();
                     // next line will determine whether Logi Sync Cloud monitoring was paused
-                    if (devicePaused) {
+                    if (devicePaused.get()) {
                         logDebugMessage("The device communicator is paused, data collector is not active.");
                         continue mainloop;
                     }
                     try {
                         logDebugMessage("Fetching devices list.");
-                        fetchDevicesList();
-                        latestError = null;
+                        fetchDevicesList(this);
+                    } catch (InterruptedException e) {
+                        logDebugMessage("Devices collection is interrupted: " + e.getMessage());
+                        Thread.currentThread().interrupt();
+                        stop();
+                        break mainloop;
+                    } catch (CancellationException e) {
+                        logDebugMessage("Devices collection is cancelled: " + e.getMessage());
+                        continue mainloop;
                     } catch (Exception e) {
                         Throwable cause = e.getCause();
                         if (cause != null) {
@@ -207,7 +413,7 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
                         break mainloop;
                     }
 
-                    int aggregatedDevicesCount = aggregatedDevices.size();
+                    int aggregatedDevicesCount = aggregatedDevicesSnapshot.get().size();
                     if (aggregatedDevicesCount == 0) {
                         logDebugMessage("No devices collected in the main data collection thread so far. Continuing.");
                         // We shouldn't just continue here because we'll exhaust 14000 daily requests too quickly.
@@ -215,17 +421,22 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
                         //continue mainloop;
                     }
 
-                    while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
+                    while (nextDevicesCollectionIterationTimestamp.get() > System.currentTimeMillis()) {
+                        if (!inProgress) {
+                            break mainloop;
+                        }
                         try {
-                            TimeUnit.MILLISECONDS.sleep(1000);
+                            TimeUnit.MILLISECONDS.sleep(CANCELLATION_CHECK_INTERVAL);
                         } catch (InterruptedException e) {
-                            //
+                            Thread.currentThread().interrupt();
+                            stop();
+                            break mainloop;
                         }
                     }
                     // We don't want to fetch devices statuses too often, so by default it's currentTime + 30s
                     // otherwise - the variable is reset by the retrieveMultipleStatistics() call, which
                     // launches devices detailed statistics collection
-                    nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 30000;
+                    nextDevicesCollectionIterationTimestamp.set(System.currentTimeMillis() + COLLECTION_CYCLE_INTERVAL);
 
                     lastMonitoringCycleDuration = (System.currentTimeMillis() - startCycle) / 1000;
                     logDebugMessage("Finished collecting devices statistics cycle at " + new Date() + ", total duration: " + lastMonitoringCycleDuration);
@@ -257,16 +468,130 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
 
 
     /**
-     * LogiSyncCloudCommunicator constructor. Initializes properties processor, device metadata and device data loader
+     * Page of places, handed over from the fetching stage to the processing stage of the devices collection pipeline
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    private static class PlacesPage {
+        /** End of pages marker, signals the processing stage that there are no more pages to expect */
+        private static final PlacesPage END = new PlacesPage(null, null, 0, 0, null, null);
+
+        private final CycleProfiler.PageProfile pageProfile;
+        private final CycleDiagnostics diagnostics;
+        private final int pageNumber;
+        private final long pageTimestamp;
+        /** Continuation token of the page that follows this one */
+        private final String continuationToken;
+        private final JsonNode places;
+
+        PlacesPage(CycleProfiler.PageProfile pageProfile, CycleDiagnostics diagnostics, int pageNumber, long pageTimestamp, String continuationToken, JsonNode places) {
+            this.pageProfile = pageProfile;
+            this.diagnostics = diagnostics;
+            this.pageNumber = pageNumber;
+            this.pageTimestamp = pageTimestamp;
+            this.continuationToken = continuationToken;
+            this.places = places;
+        }
+    }
+
+    /**
+     * {@link LogiSyncCloudCollectorMXBean} implementation, exposing collector internals of this communicator instance
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    private class LogiSyncCloudCollector implements LogiSyncCloudCollectorMXBean {
+        @Override
+        public int getCachedDevicesTotal() {
+            return aggregatedDevicesSnapshot.get().size();
+        }
+
+        @Override
+        public long getDeviceCacheSize() {
+            return LogiSyncCloudCommunicator.this.getDeviceCacheSize(null);
+        }
+
+        @Override
+        public String getCurrentOrganization() {
+            String organizationId = currentOrganizationId;
+            return organizationId == null ? "" : organizationId;
+        }
+
+        @Override
+        public int getCurrentPage() {
+            return currentOrganizationId == null ? 0 : currentPage;
+        }
+
+        @Override
+        public long getPendingWait() {
+            long currentTimestamp = System.currentTimeMillis();
+            long throttleEnd = throttleEndTimestamp;
+            if (throttleEnd > 0) {
+                return Math.max(0, throttleEnd - currentTimestamp);
+            }
+            // In between of the cycles the collector waits for the next iteration
+            return currentOrganizationId == null ? Math.max(0, nextDevicesCollectionIterationTimestamp.get() - currentTimestamp) : 0;
+        }
+
+        @Override
+        public Map<String, Long> getLastCollectionDurations() {
+            Map<String, Long> durations = new TreeMap<>();
+            organizationStates.forEach((organizationId, organizationState) -> durations.put(organizationId, organizationState.getLastCollectionDuration()));
+            return durations;
+        }
+
+        @Override
+        public long getRequestsTotal() {
+            return apiCallStatistics.getRequestsTotal();
+        }
+
+        @Override
+        public long getTooManyRequestsTotal() {
+            return apiCallStatistics.getTooManyRequestsTotal();
+        }
+
+        @Override
+        public boolean isPaused() {
+            return devicePaused.get();
+        }
+
+        @Override
+        public String getLastError() {
+            Exception error = latestError;
+            if (error == null) {
+                error = organizationStates.values().stream().filter(organizationState -> organizationState.getLatestError() != null)
+                        .max(Comparator.comparingLong(OrganizationState::getLastAttemptTimestamp))
+                        .map(OrganizationState::getLatestError).orElse(null);
+            }
+            return error == null ? "" : String.valueOf(error.getMessage());
+        }
+
+        @Override
+        public void forceRefresh() {
+            logDebugMessage("Collection refresh is requested over JMX.");
+            organizationStates.values().forEach(organizationState -> {
+                organizationState.resetBackoff();
+                organizationState.resetPollInterval();
+            });
+            nextDevicesCollectionIterationTimestamp.set(System.currentTimeMillis());
+        }
+
+        @Override
+        public void resetCounters() {
+            apiCallStatistics.resetCounters();
+        }
+    }
+
+    /**
+     * LogiSyncCloudCommunicator constructor. Initializes request interceptor and device metadata
      * */
     public LogiSyncCloudCommunicator() throws IOException {
-        Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML("mapping/model-mapping.yml", getClass());
-        aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+        long constructionStart = System.nanoTime();
+        logiSyncCloudRequestInterceptor = new LogiSyncCloudRequestInterceptor(apiCallStatistics);
         adapterProperties = new Properties();
         adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
-
-        executorService = Executors.newFixedThreadPool(1);
-        executorService.submit(deviceDataLoader = new LogiSyncCloudDeviceDataLoader());
+        adapterConstructionDuration = System.nanoTime() - constructionStart;
     }
 
     /**
@@ -333,6 +658,24 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
         this.apiKey = apiKey;
     }
 
+    /**
+     * Retrieves {@link #passivePing}
+     *
+     * @return value of {@link #passivePing}
+     */
+    public boolean isPassivePing() {
+        return passivePing;
+    }
+
+    /**
+     * Sets {@link #passivePing} value
+     *
+     * @param passivePing new value of {@link #passivePing}
+     */
+    public void setPassivePing(boolean passivePing) {
+        this.passivePing = passivePing;
+    }
+
     /**
      * Retrieves {@link #placeRetrievalTimeout}
      *
@@ -352,168 +695,551 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
     }
 
     /**
-     * Retrieves {@link #placeRetrievalPageSize}
+     * Retrieves {@link #organizationRetryBackoff}
      *
-     * @return value of {@link #placeRetrievalPageSize}
+     * @return value of {@link #organizationRetryBackoff}
      */
-    public int getPlaceRetrievalPageSize() {
-        return placeRetrievalPageSize;
+    public long getOrganizationRetryBackoff() {
+        return organizationRetryBackoff;
     }
 
     /**
-     * Sets {@link #placeRetrievalPageSize} value
+     * Sets {@link #organizationRetryBackoff} value
      *
-     * @param placeRetrievalPageSize new value of {@link #placeRetrievalPageSize}
+     * @param organizationRetryBackoff new value of {@link #organizationRetryBackoff}
      */
-    public void setPlaceRetrievalPageSize(int placeRetrievalPageSize) {
-        this.placeRetrievalPageSize = placeRetrievalPageSize < 1 ? 1 : Math.min(placeRetrievalPageSize, 1000);
+    public void setOrganizationRetryBackoff(long organizationRetryBackoff) {
+        this.organizationRetryBackoff = Math.max(1000, organizationRetryBackoff);
     }
 
     /**
-     * Retrieves {@link #organizationIds}
+     * Retrieves {@link #organizationRetryBackoffMax}
      *
-     * @return value of {@link #organizationIds}
+     * @return value of {@link #organizationRetryBackoffMax}
      */
-    public String getOrganizationIds() {
-        return String.join(",", organizationIds);
+    public long getOrganizationRetryBackoffMax() {
+        return organizationRetryBackoffMax;
     }
 
     /**
-     * Sets {@link #organizationIds} value
+     * Sets {@link #organizationRetryBackoffMax} value
      *
-     * @param organizationIds new value of {@link #organizationIds}
+     * @param organizationRetryBackoffMax new value of {@link #organizationRetryBackoffMax}
      */
-    public void setOrganizationIds(String organizationIds) {
-        this.organizationIds = Arrays.stream(organizationIds.split(",")).map(String::trim).collect(Collectors.toList());
+    public void setOrganizationRetryBackoffMax(long organizationRetryBackoffMax) {
+        this.organizationRetryBackoffMax = Math.max(1000, organizationRetryBackoffMax);
     }
 
-    @Override
-    protected void internalInit() throws Exception {
-        if (logger.isDebugEnabled()) {
-            logger.debug("Internal init is called.");
-        }
-        adapterInitializationTimestamp = System.currentTimeMillis();
+    /**
+     * Retrieves {@link #deviceCacheMemoryLimit}
+     *
+     * @return value of {@link #deviceCacheMemoryLimit}
+     */
+    public long getDeviceCacheMemoryLimit() {
+        return deviceCacheMemoryLimit;
+    }
 
-        try {
-            // Add Bouncy Castle as a security provider
-            Security.addProvider(new BouncyCastleProvider());
-            // Load the private key
-            PrivateKey privateKey = loadPrivateKey();
-            // Load the certificate
-            X509Certificate certificate = loadCertificate();
+    /**
+     * Sets {@link #deviceCacheMemoryLimit} value
+     *
+     * @param deviceCacheMemoryLimit new value of {@link #deviceCacheMemoryLimit}
+     */
+    public void setDeviceCacheMemoryLimit(long deviceCacheMemoryLimit) {
+        this.deviceCacheMemoryLimit = Math.max(0, deviceCacheMemoryLimit);
+    }
 
-            String devicePassword = getPassword();
-            char[] keystorePassword = StringUtils.isNullOrEmpty(devicePassword) ? "".toCharArray() : devicePassword.toCharArray();
-            // Create a new PKCS#12 keystore in memory
-            KeyStore keyStore = KeyStore.getInstance("PKCS12");
-            keyStore.load(null, null); // Initialize an empty keystore
-            keyStore.setKeyEntry("alias", privateKey, keystorePassword, new X509Certificate[]{certificate});
-
-            // Save the keystore to a ByteArrayOutputStream
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            keyStore.store(baos, keystorePassword);
-            byte[] keystoreBytes = baos.toByteArray();
-
-            // Load the keystore from the byte array
-            ByteArrayInputStream bais = new ByteArrayInputStream(keystoreBytes);
-            KeyStore loadedKeyStore = KeyStore.getInstance("PKCS12");
-            loadedKeyStore.load(bais, keystorePassword);
-
-            // Set up KeyManagerFactory and TrustManagerFactory
-            KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
-            keyManagerFactory.init(loadedKeyStore, keystorePassword);
-
-            TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-            trustManagerFactory.init(loadedKeyStore);
-            sslContext = SSLContext.getInstance("TLS");
-
-            TrustManager[] trustAllCerts = new TrustManager[] {
-                    new X509TrustManager() {
-                        public X509Certificate[] getAcceptedIssuers() { return new X509Certificate[0]; }
-                        public void checkClientTrusted(X509Certificate[] certs, String authType) { }
-                        public void checkServerTrusted(X509Certificate[] certs, String authType) { }
-                    }
-            };
-            sslContext.init(keyManagerFactory.getKeyManagers(), trustAllCerts, null);
-            if (logger.isInfoEnabled()) {
-                logger.info("mTLS is configured with provided certificate and privateKey.");
-            }
-        } catch (Exception e) {
-            logger.error("An error occurred during mTLS configuration.", e);
-        }
+    /**
+     * Retrieves {@link #deviceCacheMemoryPolicy}
+     *
+     * @return value of {@link #deviceCacheMemoryPolicy}
+     */
+    public String getDeviceCacheMemoryPolicy() {
+        return deviceCacheMemoryPolicy.getName();
+    }
 
-        super.internalInit();
+    /**
+     * Sets {@link #deviceCacheMemoryPolicy} value
+     *
+     * @param deviceCacheMemoryPolicy new value of {@link #deviceCacheMemoryPolicy}
+     */
+    public void setDeviceCacheMemoryPolicy(String deviceCacheMemoryPolicy) {
+        this.deviceCacheMemoryPolicy = MemoryLimitPolicy.fromName(deviceCacheMemoryPolicy);
     }
 
-    @Override
-    protected void internalDestroy() {
-        deviceDataLoader.stop();
-        aggregatedDevices.clear();
+    /**
+     * Retrieves {@link #organizationPollIntervalMin}
+     *
+     * @return value of {@link #organizationPollIntervalMin}
+     */
+    public long getOrganizationPollIntervalMin() {
+        return organizationPollIntervalMin;
+    }
 
-        super.internalDestroy();
+    /**
+     * Sets {@link #organizationPollIntervalMin} value
+     *
+     * @param organizationPollIntervalMin new value of {@link #organizationPollIntervalMin}
+     */
+    public void setOrganizationPollIntervalMin(long organizationPollIntervalMin) {
+        this.organizationPollIntervalMin = Math.max(0, organizationPollIntervalMin);
     }
 
-    @Override
-    public int ping() throws Exception {
-        if (!isInitialized()) {
-            throw new IllegalStateException("Cannot use device class without calling init() first");
-        }
-        if ("TCP".equals(getPingProtocol())) {
-            long pingResultTotal = 0L;
+    /**
+     * Retrieves {@link #organizationPollIntervalMax}
+     *
+     * @return value of {@link #organizationPollIntervalMax}
+     */
+    public long getOrganizationPollIntervalMax() {
+        return organizationPollIntervalMax;
+    }
 
-            for (int i = 0; i < this.getPingAttempts(); i++) {
-                long startTime = System.currentTimeMillis();
+    /**
+     * Sets {@link #organizationPollIntervalMax} value
+     *
+     * @param organizationPollIntervalMax new value of {@link #organizationPollIntervalMax}
+     */
+    public void setOrganizationPollIntervalMax(long organizationPollIntervalMax) {
+        this.organizationPollIntervalMax = Math.max(0, organizationPollIntervalMax);
+    }
 
-                try (Socket puSocketConnection = new Socket(this.getHost(), this.getPort())) {
-                    puSocketConnection.setSoTimeout(this.getPingTimeout());
+    /**
+     * Retrieves {@link #paginationTokenValidity}
+     *
+     * @return value of {@link #paginationTokenValidity}
+     */
+    public long getPaginationTokenValidity() {
+        return paginationTokenValidity;
+    }
 
-                    if (puSocketConnection.isConnected()) {
-                        long pingResult = System.currentTimeMillis() - startTime;
-                        pingResultTotal += pingResult;
-                        if (this.logger.isTraceEnabled()) {
-                            this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, this.getHost(), this.getPort(), pingResult));
-                        }
-                    } else {
-                        logDebugMessage(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", this.getHost(), this.getPingTimeout()));
-                        return this.getPingTimeout();
-                    }
-                } catch (SocketTimeoutException tex) {
-                    logDebugMessage(String.format("PING TIMEOUT: Connection to %s did not succeed within the timeout period of %sms", this.getHost(), this.getPingTimeout()));
-                    return this.getPingTimeout();
-                }
-            }
-            return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-        } else {
-            return super.ping();
-        }
+    /**
+     * Sets {@link #paginationTokenValidity} value
+     *
+     * @param paginationTokenValidity new value of {@link #paginationTokenValidity}
+     */
+    public void setPaginationTokenValidity(long paginationTokenValidity) {
+        this.paginationTokenValidity = Math.max(0, paginationTokenValidity);
     }
 
-    @Override
-    protected RestTemplate obtainRestTemplate() throws Exception {
-        if (sslContext == null) {
-            throw new IllegalArgumentException("Unable to initialize mTLS sslContext: Please check apiKey and apiCertificate adapter properties.");
-        }
-        RestTemplate restTemplate = super.obtainRestTemplate();
-        DefaultClientTlsStrategy tlsStrategy = new DefaultClientTlsStrategy(sslContext);
-        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
-                .setTlsSocketStrategy(tlsStrategy)
-                .setDefaultSocketConfig(SocketConfig.custom()
-                        .setSoTimeout(Timeout.ofMinutes(1))
-                        .build())
-                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
-                .setConnPoolPolicy(PoolReusePolicy.LIFO)
-                .setDefaultConnectionConfig(ConnectionConfig.custom()
-                        .setSocketTimeout(Timeout.ofMinutes(1))
-                        .setConnectTimeout(Timeout.ofMinutes(1))
-                        .setTimeToLive(TimeValue.ofMinutes(10))
-                        .build())
-                .build();
+    /**
+     * Retrieves {@link #enabledPropertyGroups}
+     *
+     * @return value of {@link #enabledPropertyGroups}
+     */
+    public String getEnabledPropertyGroups() {
+        return String.join(",", enabledPropertyGroups);
+    }
 
-        CloseableHttpClient httpClient = HttpClients.custom()
-                .setConnectionManager(connectionManager)
-                .setDefaultRequestConfig(RequestConfig.custom()
-                        .setCookieSpec(StandardCookieSpec.STRICT)
-                        .build())
+    /**
+     * Sets {@link #enabledPropertyGroups} value
+     *
+     * @param enabledPropertyGroups new value of {@link #enabledPropertyGroups}
+     */
+    public void setEnabledPropertyGroups(String enabledPropertyGroups) {
+        this.enabledPropertyGroups = Arrays.stream(enabledPropertyGroups.split(",")).map(String::trim)
+                .filter(StringUtils::isNotNullOrEmpty).collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves {@link #dynamicStatisticsDeadband}
+     *
+     * @return value of {@link #dynamicStatisticsDeadband}
+     */
+    public String getDynamicStatisticsDeadband() {
+        return dynamicStatisticsDeadband;
+    }
+
+    /**
+     * Sets {@link #dynamicStatisticsDeadband} value
+     *
+     * @param dynamicStatisticsDeadband new value of {@link #dynamicStatisticsDeadband}
+     */
+    public void setDynamicStatisticsDeadband(String dynamicStatisticsDeadband) {
+        this.dynamicStatisticsDeadband = dynamicStatisticsDeadband;
+    }
+
+    /**
+     * Retrieves {@link #dynamicStatisticsHeartbeat}
+     *
+     * @return value of {@link #dynamicStatisticsHeartbeat}
+     */
+    public long getDynamicStatisticsHeartbeat() {
+        return dynamicStatisticsHeartbeat;
+    }
+
+    /**
+     * Sets {@link #dynamicStatisticsHeartbeat} value
+     *
+     * @param dynamicStatisticsHeartbeat new value of {@link #dynamicStatisticsHeartbeat}
+     */
+    public void setDynamicStatisticsHeartbeat(long dynamicStatisticsHeartbeat) {
+        this.dynamicStatisticsHeartbeat = dynamicStatisticsHeartbeat;
+    }
+
+    /**
+     * Retrieves {@link #placeProcessingParallelism}
+     *
+     * @return value of {@link #placeProcessingParallelism}
+     */
+    public int getPlaceProcessingParallelism() {
+        return placeProcessingParallelism;
+    }
+
+    /**
+     * Sets {@link #placeProcessingParallelism} value
+     *
+     * @param placeProcessingParallelism new value of {@link #placeProcessingParallelism}
+     */
+    public void setPlaceProcessingParallelism(int placeProcessingParallelism) {
+        this.placeProcessingParallelism = Math.max(1, Math.min(placeProcessingParallelism, MAX_PLACE_PROCESSING_PARALLELISM));
+    }
+
+    /**
+     * Retrieves {@link #recordingMode}
+     *
+     * @return value of {@link #recordingMode}
+     */
+    public String getRecordingMode() {
+        return recordingMode.getName();
+    }
+
+    /**
+     * Sets {@link #recordingMode} value
+     *
+     * @param recordingMode new value of {@link #recordingMode}
+     */
+    public void setRecordingMode(String recordingMode) {
+        this.recordingMode = RecordingMode.fromName(recordingMode);
+    }
+
+    /**
+     * Retrieves {@link #recordingFile}
+     *
+     * @return value of {@link #recordingFile}
+     */
+    public String getRecordingFile() {
+        return recordingFile;
+    }
+
+    /**
+     * Sets {@link #recordingFile} value
+     *
+     * @param recordingFile new value of {@link #recordingFile}
+     */
+    public void setRecordingFile(String recordingFile) {
+        this.recordingFile = recordingFile;
+    }
+
+    /**
+     * Retrieves {@link #replaySpeed}
+     *
+     * @return value of {@link #replaySpeed}
+     */
+    public double getReplaySpeed() {
+        return replaySpeed;
+    }
+
+    /**
+     * Sets {@link #replaySpeed} value
+     *
+     * @param replaySpeed new value of {@link #replaySpeed}
+     */
+    public void setReplaySpeed(double replaySpeed) {
+        this.replaySpeed = replaySpeed;
+    }
+
+    /**
+     * Retrieves {@link #recordingRedactedFields}
+     *
+     * @return value of {@link #recordingRedactedFields}
+     */
+    public String getRecordingRedactedFields() {
+        return String.join(",", recordingRedactedFields);
+    }
+
+    /**
+     * Sets {@link #recordingRedactedFields} value
+     *
+     * @param recordingRedactedFields new value of {@link #recordingRedactedFields}
+     */
+    public void setRecordingRedactedFields(String recordingRedactedFields) {
+        this.recordingRedactedFields = Arrays.stream(recordingRedactedFields.split(",")).map(String::trim)
+                .filter(StringUtils::isNotNullOrEmpty).collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves {@link #placeRetrievalPageSize}
+     *
+     * @return value of {@link #placeRetrievalPageSize}
+     */
+    public int getPlaceRetrievalPageSize() {
+        return placeRetrievalPageSize;
+    }
+
+    /**
+     * Sets {@link #placeRetrievalPageSize} value
+     *
+     * @param placeRetrievalPageSize new value of {@link #placeRetrievalPageSize}
+     */
+    public void setPlaceRetrievalPageSize(int placeRetrievalPageSize) {
+        this.placeRetrievalPageSize = placeRetrievalPageSize < 1 ? 1 : Math.min(placeRetrievalPageSize, 1000);
+    }
+
+    /**
+     * Retrieves {@link #organizationIds}
+     *
+     * @return value of {@link #organizationIds}
+     */
+    public String getOrganizationIds() {
+        return String.join(",", organizationIds);
+    }
+
+    /**
+     * Sets {@link #organizationIds} value
+     *
+     * @param organizationIds new value of {@link #organizationIds}
+     */
+    public void setOrganizationIds(String organizationIds) {
+        this.organizationIds = Arrays.stream(organizationIds.split(",")).map(String::trim).collect(Collectors.toList());
+    }
+
+    @Override
+    protected void internalInit() throws Exception {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Internal init is called.");
+        }
+        long initStart = System.nanoTime();
+        adapterInitializationTimestamp = System.currentTimeMillis();
+
+        try {
+            String devicePassword = getPassword();
+            releaseSslContext();
+            // SSL context is shared between adapter instances with the same certificate, key and password
+            sslContext = AdapterResourcesCache.getSslContext(apiCertificate, apiKey, devicePassword, () -> createSslContext(devicePassword));
+            if (logger.isInfoEnabled()) {
+                logger.info("mTLS is configured with provided certificate and privateKey.");
+            }
+        } catch (Exception e) {
+            logger.error("An error occurred during mTLS configuration.", e);
+        }
+        PropertyGroupsFilter propertyGroupsFilter = new PropertyGroupsFilter(enabledPropertyGroups);
+        // Shared mapping is never modified, disabled groups are removed from a copy of it
+        Map<String, PropertiesMapping> modelMapping = propertyGroupsFilter.filter(AdapterResourcesCache.getModelMapping());
+        aggregatedDeviceProcessor = new AggregatedDeviceProcessor(modelMapping);
+        if (placeProcessingParallelism > 1) {
+            placeProcessors = ThreadLocal.withInitial(() -> new AggregatedDeviceProcessor(modelMapping));
+            placesProcessingPool = ForkJoinMapper.newPool("LogiSyncCloudPlaces", placeProcessingParallelism);
+        }
+        placePropertiesEnabled = propertyGroupsFilter.isGroupEnabled(Constants.MappingModels.PLACE);
+        if (!propertyGroupsFilter.isUnrestricted() && logger.isInfoEnabled()) {
+            logger.info("Collecting the following property groups only: " + getEnabledPropertyGroups());
+        }
+        deadband = null;
+        if (StringUtils.isNotNullOrEmpty(dynamicStatisticsDeadband)) {
+            try {
+                deadband = new DynamicStatisticsDeadband(dynamicStatisticsDeadband, dynamicStatisticsHeartbeat);
+            } catch (IllegalArgumentException e) {
+                logger.error("Unable to configure dynamic statistics deadband, all the dynamic statistics are reported: " + e.getMessage(), e);
+            }
+        }
+        apiRecordingInterceptor = recordingMode == RecordingMode.OFF ? null
+                : new ApiRecordingInterceptor(recordingMode, recordingFile, replaySpeed, recordingRedactedFields);
+        if (apiRecordingInterceptor != null && logger.isInfoEnabled()) {
+            logger.info(String.format("API responses recording is enabled in %s mode, recording file: %s", recordingMode.getName(), recordingFile));
+        }
+
+        super.internalInit();
+        registerCollectorMXBean();
+        // Collector is started with every init and stopped with every destroy, so re-init never adds threads
+        executorService = CollectorExecutors.newCollectorExecutor("LogiSyncCloudCollector");
+        executorService.submit(deviceDataLoader = new LogiSyncCloudDeviceDataLoader());
+        adapterInitDuration = TimeUnit.NANOSECONDS.toMillis(adapterConstructionDuration + System.nanoTime() - initStart);
+    }
+
+    /**
+     * Create SSL context for mTLS authentication, based on {@link #apiCertificate} and {@link #apiKey}
+     *
+     * @param devicePassword password to protect the in-memory keystore with
+     * @return {@link SSLContext} instance
+     * @throws Exception if an error occurs during certificate or key loading
+     * */
+    private SSLContext createSslContext(String devicePassword) throws Exception {
+        // Add Bouncy Castle as a security provider, unless it's already registered
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        // Load the private key
+        PrivateKey privateKey = loadPrivateKey();
+        // Load the certificate
+        X509Certificate certificate = loadCertificate();
+
+        char[] keystorePassword = StringUtils.isNullOrEmpty(devicePassword) ? "".toCharArray() : devicePassword.toCharArray();
+        // Create a new PKCS#12 keystore in memory
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null); // Initialize an empty keystore
+        keyStore.setKeyEntry("alias", privateKey, keystorePassword, new X509Certificate[]{certificate});
+
+        // Set up KeyManagerFactory
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, keystorePassword);
+
+        SSLContext context = SSLContext.getInstance("TLS");
+        TrustManager[] trustAllCerts = new TrustManager[] {
+                new X509TrustManager() {
+                    public X509Certificate[] getAcceptedIssuers() { return new X509Certificate[0]; }
+                    public void checkClientTrusted(X509Certificate[] certs, String authType) { }
+                    public void checkServerTrusted(X509Certificate[] certs, String authType) { }
+                }
+        };
+        context.init(keyManagerFactory.getKeyManagers(), trustAllCerts, null);
+        return context;
+    }
+
+    /**
+     * Close {@link #connectionManager} immediately, aborting the requests in progress, if there's any
+     */
+    private void closeConnectionManager() {
+        PoolingHttpClientConnectionManager manager = connectionManager;
+        connectionManager = null;
+        if (manager != null) {
+            manager.close(CloseMode.IMMEDIATE);
+        }
+    }
+
+    /**
+     * Register {@link LogiSyncCloudCollectorMXBean} of this instance with the platform MBean server.
+     * Failing to do so does not affect the collection, so the error is only logged.
+     */
+    private void registerCollectorMXBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(String.format("%s:type=%s,name=%s", getClass().getPackage().getName(), getClass().getSimpleName(),
+                    ObjectName.quote(getHost() + "@" + Integer.toHexString(System.identityHashCode(this)))));
+            if (!mBeanServer.isRegistered(name)) {
+                mBeanServer.registerMBean(new StandardMBean(new LogiSyncCloudCollector(), LogiSyncCloudCollectorMXBean.class, true), name);
+            }
+            collectorMXBeanName = name;
+        } catch (Exception e) {
+            logger.warn("Unable to register collector MXBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Unregister {@link LogiSyncCloudCollectorMXBean} of this instance, if it's registered
+     */
+    private void unregisterCollectorMXBean() {
+        if (collectorMXBeanName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(collectorMXBeanName);
+        } catch (Exception e) {
+            logger.warn("Unable to unregister collector MXBean: " + e.getMessage());
+        }
+        collectorMXBeanName = null;
+    }
+
+    @Override
+    protected void internalDestroy() {
+        unregisterCollectorMXBean();
+        LogiSyncCloudDeviceDataLoader loader = deviceDataLoader;
+        if (loader != null) {
+            loader.stop();
+        }
+        ExecutorService collectorExecutor = executorService;
+        if (collectorExecutor != null) {
+            // Interrupts the collector waits, closing the connections aborts the requests in progress
+            collectorExecutor.shutdownNow();
+        }
+        closeConnectionManager();
+        ForkJoinPool pool = placesProcessingPool;
+        placesProcessingPool = null;
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+        if (collectorExecutor != null) {
+            try {
+                if (!collectorExecutor.awaitTermination(COLLECTOR_TERMINATION_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    logger.warn(String.format("Devices collector did not stop within %sms.", COLLECTOR_TERMINATION_TIMEOUT));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        aggregatedDevicesSnapshot.set(Collections.emptyList());
+        organizationStates.clear();
+        releaseSslContext();
+
+        super.internalDestroy();
+    }
+
+    /**
+     * Release the shared SSL context of the instance, so it's dropped once no other instance uses it
+     */
+    private void releaseSslContext() {
+        SSLContext context = sslContext;
+        sslContext = null;
+        if (context != null) {
+            AdapterResourcesCache.releaseSslContext(context);
+        }
+    }
+
+    @Override
+    public int ping() throws Exception {
+        if (!isInitialized()) {
+            throw new IllegalStateException("Cannot use device class without calling init() first");
+        }
+        // Recorded and replayed responses are buffered or served locally, so their latency is not the network one
+        if (passivePing && recordingMode == RecordingMode.OFF
+                && System.currentTimeMillis() - apiCallStatistics.getLastSuccessTimestamp() < PASSIVE_PING_WINDOW) {
+            long firstByteLatency = apiCallStatistics.getFirstByteLatency();
+            if (firstByteLatency >= 0) {
+                logDebugMessage(String.format("PING PASSIVE: Lowest first-byte latency of the recent API calls to %s is %sms", this.getHost(), firstByteLatency));
+                return (int) Math.max(1, Math.min(firstByteLatency, this.getPingTimeout()));
+            }
+        }
+        if ("TCP".equals(getPingProtocol())) {
+            return TcpPing.ping(this.getHost(), this.getPort(), this.getPingAttempts(), this.getPingTimeout());
+        } else {
+            return super.ping();
+        }
+    }
+
+    @Override
+    protected RestTemplate obtainRestTemplate() throws Exception {
+        RestTemplate restTemplate = super.obtainRestTemplate();
+        closeConnectionManager();
+        if (recordingMode == RecordingMode.REPLAY) {
+            // Responses are served from the recording, no connections are made
+            List<ClientHttpRequestInterceptor> interceptors = restTemplate.getInterceptors();
+            if (!interceptors.contains(logiSyncCloudRequestInterceptor))
+                interceptors.add(logiSyncCloudRequestInterceptor);
+            if (!interceptors.contains(apiRecordingInterceptor))
+                interceptors.add(apiRecordingInterceptor);
+            return restTemplate;
+        }
+        if (sslContext == null) {
+            throw new IllegalArgumentException("Unable to initialize mTLS sslContext: Please check apiKey and apiCertificate adapter properties.");
+        }
+        DefaultClientTlsStrategy tlsStrategy = new DefaultClientTlsStrategy(sslContext);
+        connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setTlsSocketStrategy(tlsStrategy)
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoTimeout(Timeout.ofMinutes(1))
+                        .build())
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setSocketTimeout(Timeout.ofMinutes(1))
+                        .setConnectTimeout(Timeout.ofMinutes(1))
+                        .setTimeToLive(TimeValue.ofMinutes(10))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setCookieSpec(StandardCookieSpec.STRICT)
+                        .build())
                 .build();
 
         HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
@@ -522,6 +1248,9 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
         List<ClientHttpRequestInterceptor> interceptors = restTemplate.getInterceptors();
         if (!interceptors.contains(logiSyncCloudRequestInterceptor))
             interceptors.add(logiSyncCloudRequestInterceptor);
+        // Recorder goes after the request interceptor, so it captures every exchange, including the retried ones
+        if (apiRecordingInterceptor != null && !interceptors.contains(apiRecordingInterceptor))
+            interceptors.add(apiRecordingInterceptor);
 
         return restTemplate;
     }
@@ -535,16 +1264,33 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
         Map<String, String> statistics = new HashMap<>();
         Map<String, String> dynamicStatistics = new HashMap<>();
 
-        dynamicStatistics.put(Constants.Properties.MONITORED_DEVICES_TOTAL, String.valueOf(aggregatedDevices.size()));
+        dynamicStatistics.put(Constants.Properties.MONITORED_DEVICES_TOTAL, String.valueOf(aggregatedDevicesSnapshot.get().size()));
+        dynamicStatistics.put(Constants.Properties.ADAPTER_RUNNER_SIZE, String.valueOf(getDeviceCacheSize(null)));
+        dynamicStatistics.put(Constants.Properties.DEGRADED_DEVICES_TOTAL, String.valueOf(organizationStates.values().stream().mapToInt(OrganizationState::getDegradedDevices).sum()));
+        if (deviceCacheMemoryLimit > 0) {
+            statistics.put(Constants.Properties.DEVICE_CACHE_MEMORY_LIMIT, String.valueOf(deviceCacheMemoryLimit));
+        }
+        DynamicStatisticsDeadband dynamicStatisticsFilter = deadband;
+        if (dynamicStatisticsFilter != null) {
+            dynamicStatistics.put(Constants.Properties.DYNAMIC_STATISTICS_EMITTED, String.valueOf(dynamicStatisticsFilter.getLastCycleEmitted()));
+            dynamicStatistics.put(Constants.Properties.DYNAMIC_STATISTICS_SUPPRESSED, String.valueOf(dynamicStatisticsFilter.getLastCycleSuppressed()));
+        }
         if (lastMonitoringCycleDuration != null) {
             dynamicStatistics.put(Constants.Properties.MONITORING_CYCLE_DURATION, String.valueOf(lastMonitoringCycleDuration));
         }
+        populateCycleProfile(dynamicStatistics);
+        populateOrganizationStates(statistics, dynamicStatistics);
 
         statistics.put(Constants.Properties.ADAPTER_VERSION, adapterProperties.getProperty("aggregator.version"));
         statistics.put(Constants.Properties.ADAPTER_BUILD_DATE, adapterProperties.getProperty("aggregator.build.date"));
         long adapterUptime = System.currentTimeMillis() - adapterInitializationTimestamp;
         statistics.put(Constants.Properties.ADAPTER_UPTIME_MIN, String.valueOf(adapterUptime / (1000*60)));
         statistics.put(Constants.Properties.ADAPTER_UPTIME, normalizeUptime(adapterUptime/1000));
+        statistics.put(Constants.Properties.ADAPTER_INIT_DURATION, String.valueOf(adapterInitDuration));
+        statistics.put(Constants.Properties.COLLECTOR_THREADS, CollectorExecutors.isVirtual() ? "Virtual" : "Platform");
+        if (recordingMode != RecordingMode.OFF) {
+            statistics.put(Constants.Properties.RECORDING_MODE, recordingMode.getName());
+        }
 
         extendedStatistics.setStatistics(statistics);
         extendedStatistics.setDynamicStatistics(dynamicStatistics);
@@ -553,29 +1299,52 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
 
     @Override
     public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+        return filterDynamicStatistics(retrieveDevicesSnapshot());
+    }
+
+    @Override
+    public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
+        return filterDynamicStatistics(retrieveDevicesSnapshot()
+                .stream()
+                .filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Retrieve the latest published devices, and register the statistics retrieval,
+     * so the devices collection is kept active
+     *
+     * @return latest {@link #aggregatedDevicesSnapshot}
+     * @throws Exception if organization ids are missing, or the latest collection cycle has failed
+     */
+    private List<AggregatedDevice> retrieveDevicesSnapshot() throws Exception {
         if (organizationIds.isEmpty()) {
             throw new IllegalArgumentException("Monitoring Error: organization id is missing, please check organizationIds configuration parameter");
         }
-        nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
+        nextDevicesCollectionIterationTimestamp.set(System.currentTimeMillis());
         updateValidRetrieveStatisticsTimestamp();
 
-        List<AggregatedDevice> aggregatedDeviceList = new ArrayList<>(aggregatedDevices.values());
-        for(AggregatedDevice aggregatedDevice: aggregatedDeviceList) {
-            aggregatedDevice.setTimestamp(System.currentTimeMillis());
-        }
-
+        List<AggregatedDevice> aggregatedDeviceList = aggregatedDevicesSnapshot.get();
         if (latestError != null) {
             throw latestError;
         }
         return aggregatedDeviceList;
     }
 
-    @Override
-    public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-        return retrieveMultipleStatistics()
-                .stream()
-                .filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId()))
-                .collect(Collectors.toList());
+    /**
+     * Filter dynamic statistics of the devices that are returned by a statistics retrieval with {@link #deadband}.
+     * The filter is applied per retrieval, rather than per collection cycle, so a changed value is not suppressed
+     * before Symphony has retrieved it.
+     *
+     * @param devices devices to return
+     * @return devices with the dynamic statistics filtered, or the devices provided if the deadband mode is off
+     */
+    private List<AggregatedDevice> filterDynamicStatistics(List<AggregatedDevice> devices) {
+        DynamicStatisticsDeadband dynamicStatisticsFilter = deadband;
+        if (dynamicStatisticsFilter == null) {
+            return devices;
+        }
+        return dynamicStatisticsFilter.apply(devices, System.currentTimeMillis());
     }
 
     @Override
@@ -585,64 +1354,539 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
 
     /**
      * Fetching logi devices list from {@link Constants.URI#PLACES} endpoint.
-     * The page size is specified with {@link #placeRetrievalPageSize}, data is pulled until all information is retrieved.
+     * Each organization is collected independently with {@link #fetchOrganizationDevices(String, AtomicReference, CycleProfiler, CycleDiagnostics, LogiSyncCloudDeviceDataLoader)},
+     * an organization that fails keeps its previously collected devices and is backed off according to
+     * {@link #organizationRetryBackoff}, while the rest of organizations are collected with the normal pace.
      * If multiple organizations are in play - requests are paced by {@link #placeRetrievalTimeout} value
+     * Devices of all organizations are published as a new {@link #aggregatedDevicesSnapshot} once
+     * all organizations are processed, so the devices that are no longer reported are dropped at the same time.
+     *
+     * @param loader devices data loader that runs the collection
+     * @throws Exception if any error occurs
+     * */
+    private void fetchDevicesList(LogiSyncCloudDeviceDataLoader loader) throws Exception {
+        CycleProfiler profiler = new CycleProfiler();
+        CycleDiagnostics diagnostics = CycleDiagnostics.create(logger);
+        List<String> organizations = organizationIds;
+        // Organizations that are no longer configured must not be reported anymore
+        organizationStates.keySet().retainAll(organizations);
+
+        boolean requestIssued = false;
+        for (String organizationId: organizations) {
+            ensureCollectionActive(loader);
+            OrganizationState organizationState = organizationStates.computeIfAbsent(organizationId, OrganizationState::new);
+            if (organizationState.isBackingOff(System.currentTimeMillis())) {
+                logDebugMessage(String.format("Organization %s is backing off after %s failure(s), next attempt is at %s", organizationId,
+                        organizationState.getConsecutiveFailures(), new Date(organizationState.getNextAttemptTimestamp())));
+                continue;
+            }
+            // Half a cycle of tolerance, so the organizations that are due are not postponed by a whole cycle
+            if (organizationPollIntervalMax > organizationPollIntervalMin
+                    && !organizationState.isPollDue(System.currentTimeMillis(), COLLECTION_CYCLE_INTERVAL / 2)) {
+                logDebugMessage(String.format("Organization %s is not due yet, polling interval is %sms, change ratio is %s", organizationId,
+                        organizationState.getPollInterval(), organizationState.getChangeRatio()));
+                continue;
+            }
+            if (requestIssued) {
+                throttle(profiler, organizationId, placeRetrievalTimeout, loader);
+            }
+            requestIssued = true;
+            currentOrganizationId = organizationId;
+            organizationState.attempt(System.currentTimeMillis());
+            AtomicReference<OrganizationState.PaginationCheckpoint> checkpoint = new AtomicReference<>(
+                    organizationState.resumeCheckpoint(System.currentTimeMillis(), paginationTokenValidity));
+            try {
+                Map<String, AggregatedDevice> organizationDevices = fetchOrganizationDevices(organizationId, checkpoint, profiler, diagnostics, loader);
+                applyDeviceCacheMemoryLimit(organizationState, organizationDevices);
+                organizationState.adaptPollInterval(organizationPollIntervalMin, Math.max(organizationPollIntervalMin, organizationPollIntervalMax));
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (CancellationException e) {
+                // Not a failure, the organization resumes from the same page once the collection is resumed
+                organizationState.suspend(checkpoint.get());
+                throw e;
+            } catch (Exception e) {
+                organizationState.failure(unwrapError(e), checkpoint.get(), System.currentTimeMillis(), organizationRetryBackoff, organizationRetryBackoffMax);
+                logger.error(String.format("Error occurred during organization %s devices retrieval, next attempt is at %s: %s", organizationId,
+                        new Date(organizationState.getNextAttemptTimestamp()), e.getMessage()), e);
+            } finally {
+                currentOrganizationId = null;
+            }
+        }
+
+        // Publish the latest list of devices, cached devices that are not in it are dropped along with the previous snapshot
+        long sweepStart = System.nanoTime();
+        Map<String, AggregatedDevice> retrievedDevices = new LinkedHashMap<>();
+        for (String organizationId: organizations) {
+            OrganizationState organizationState = organizationStates.get(organizationId);
+            if (organizationState != null) {
+                retrievedDevices.putAll(organizationState.getDevices());
+            }
+        }
+        aggregatedDevicesSnapshot.set(Collections.unmodifiableList(new ArrayList<>(retrievedDevices.values())));
+        DynamicStatisticsDeadband dynamicStatisticsFilter = deadband;
+        if (dynamicStatisticsFilter != null) {
+            dynamicStatisticsFilter.retainDevices(retrievedDevices.keySet());
+        }
+        profiler.record(null, CycleProfiler.Stage.SWEEP, System.nanoTime() - sweepStart);
+
+        latestError = resolveLatestError(organizations);
+        lastCycleProfile = profiler.complete();
+        diagnostics.logSummary(logger);
+    }
+
+    /**
+     * Fetching logi devices of a single organization from {@link Constants.URI#PLACES} endpoint.
+     * The page size is specified with {@link #placeRetrievalPageSize}, data is pulled until all information is retrieved.
+     *
+     * Collection is a two-stage pipeline: this method fetches pages as often as {@link #PLACE_REQUEST_INTERVAL} allows,
+     * while pages are processed with {@link #processPlacesPages(BlockingQueue, Map, AtomicReference)} on a separate thread, so the
+     * processing time overlaps the mandatory gap between requests instead of adding up to it.
+     *
+     * Pagination progress is tracked in the checkpoint provided: if it holds a checkpoint of a failed attempt - pagination
+     * resumes from its continuation token, with its devices already merged. Each merged page moves the checkpoint forward,
+     * so if this attempt fails - the checkpoint points to the first page that was not merged.
      *
+     * @param organizationId id of the organization to fetch devices for
+     * @param checkpoint pagination checkpoint to resume from, updated as pages are merged
+     * @param profiler current cycle profiler
+     * @param diagnostics current cycle diagnostics
+     * @param loader devices data loader that runs the collection
+     * @return map of devices collected, by device id
      * @throws Exception if any error occurs
      * */
-    private synchronized void fetchDevicesList() throws Exception {
+    private Map<String, AggregatedDevice> fetchOrganizationDevices(String organizationId, AtomicReference<OrganizationState.PaginationCheckpoint> checkpoint,
+                                                                   CycleProfiler profiler, CycleDiagnostics diagnostics,
+                                                                   LogiSyncCloudDeviceDataLoader loader) throws Exception {
+        BlockingQueue<PlacesPage> pages = new ArrayBlockingQueue<>(PAGES_QUEUE_CAPACITY);
+        // Only written by the processing stage, visible here once the processing Future is completed
+        Map<String, AggregatedDevice> retrievedDevices = new LinkedHashMap<>();
         String continuationToken = "";
+        int pageNumber = 0;
+        OrganizationState.PaginationCheckpoint resumeCheckpoint = checkpoint.get();
+        if (resumeCheckpoint != null) {
+            continuationToken = resumeCheckpoint.getContinuationToken();
+            pageNumber = resumeCheckpoint.getPagesMerged();
+            retrievedDevices.putAll(resumeCheckpoint.getDevices());
+            if (logger.isInfoEnabled()) {
+                logger.info(String.format("Resuming organization %s collection from page %s, %s device(s) are already merged.",
+                        organizationId, pageNumber + 1, retrievedDevices.size()));
+            }
+        }
+        Future<?> processing = executorService.submit(() -> {
+            processPlacesPages(pages, retrievedDevices, checkpoint);
+            return null;
+        });
 
-        // To keep track of all the relevant devices collected this cycle
-        List<String> retrievedDeviceIds = new ArrayList<>();
-        int orgCounter = 1;
-        for (String organizationId: organizationIds) {
+        try {
+            long lastRequestTimestamp = 0;
             do {
+                if (lastRequestTimestamp > 0) {
+                    // Default timeout between requests, according to Logi Sync Cloud Limitation:
+                    // Maximum allowed sustained rate is 1 request per second.
+                    long requestDelay = TimeUnit.NANOSECONDS.toMillis(lastRequestTimestamp + TimeUnit.MILLISECONDS.toNanos(PLACE_REQUEST_INTERVAL) - System.nanoTime());
+                    if (requestDelay > 0) {
+                        throttle(profiler, organizationId, requestDelay, loader);
+                    }
+                }
+                ensureCollectionActive(loader);
+                CycleProfiler.PageProfile pageProfile = profiler.startPage(organizationId, ++pageNumber);
+                currentPage = pageNumber;
                 String urlTemplate = String.format(Constants.URI.PLACES, organizationId, placeRetrievalPageSize, continuationToken);
 
-                JsonNode response = doGet(urlTemplate, JsonNode.class);
+                lastRequestTimestamp = System.nanoTime();
+                String rawResponse = doGet(urlTemplate);
+                long pageTimestamp = System.currentTimeMillis();
+                pageProfile.record(CycleProfiler.Stage.HTTP_WAIT, System.nanoTime() - lastRequestTimestamp);
+
+                long stageStart = System.nanoTime();
+                JsonNode response = objectMapper.readTree(rawResponse);
+                pageProfile.record(CycleProfiler.Stage.JSON_PARSE, System.nanoTime() - stageStart);
                 continuationToken = response.at(Constants.URI.FIELD_CONTINUATION).asText();
 
-                List<AggregatedDevice> placeDevices = null;
-                for (JsonNode room : response.at(Constants.URI.FIELD_PLACES)) {
-                    Map<String, String> placeProperties = new HashMap<>();
-                    placeProperties.put(Constants.Properties.PLACE_ID, room.at("/id").asText());
-                    placeProperties.put(Constants.Properties.PLACE_TYPE, room.at("/type").asText());
-                    placeProperties.put(Constants.Properties.PLACE_NAME, room.at("/name").asText());
-                    placeProperties.put(Constants.Properties.PLACE_GROUP, room.at("/group").asText());
-                    placeProperties.put(Constants.Properties.PLACE_OCCUPANCY, room.at("/occupancy").asText());
-                    placeProperties.put(Constants.Properties.PLACE_CREATED_AT, room.at("/createdAt").asText());
-                    placeProperties.put(Constants.Properties.PLACE_SEAT_COUNT, room.at("/seatCount").asText());
-
-                    placeDevices = aggregatedDeviceProcessor.extractDevices(room);
-                    placeDevices.forEach(aggregatedDevice -> {
-                        String deviceId = aggregatedDevice.getDeviceId();
-                        Map<String, String> deviceProperties = aggregatedDevice.getProperties();
-                        deviceProperties.putAll(placeProperties);
-                        formatProperties(deviceProperties);
-                        applyCatalog(aggregatedDevice);
-
-                        retrievedDeviceIds.add(deviceId);
-                        aggregatedDevices.put(deviceId, aggregatedDevice);
-                    });
+                handOffPlacesPage(pages, new PlacesPage(pageProfile, diagnostics, pageNumber, pageTimestamp, continuationToken,
+                        response.at(Constants.URI.FIELD_PLACES)), processing);
+            } while (StringUtils.isNotNullOrEmpty(continuationToken));
+            handOffPlacesPage(pages, PlacesPage.END, processing);
+            awaitPlacesProcessing(processing);
+        } catch (InterruptedException e) {
+            processing.cancel(true);
+            checkpoint.set(null);
+            throw e;
+        } catch (Exception e) {
+            // Let the processing stage merge the pages that are already fetched, so the checkpoint is as far as possible
+            try {
+                handOffPlacesPage(pages, PlacesPage.END, processing);
+                awaitPlacesProcessing(processing);
+                // Processing stage is over, so the merged devices are not modified anymore
+                long retrievedDevicesSize = MemoryEstimator.estimateDevices(retrievedDevices.values());
+                checkpoint.updateAndGet(pagination -> pagination == null ? null
+                        : pagination.withDevices(Collections.unmodifiableMap(retrievedDevices), retrievedDevicesSize));
+            } catch (Exception processingError) {
+                processing.cancel(true);
+                checkpoint.set(null);
+                logDebugMessage("Unable to complete places processing stage after a failure, pagination will start over: " + processingError.getMessage());
+            }
+            throw e;
+        }
+        return retrievedDevices;
+    }
+
+    /**
+     * Processing stage of the devices collection pipeline. Takes pages from the queue and extracts devices from them,
+     * until {@link PlacesPage#END} is received.
+     *
+     * Once a page is merged - the pagination checkpoint is moved to the page that follows.
+     *
+     * @param pages queue to take pages from
+     * @param retrievedDevices map to put extracted devices to
+     * @param checkpoint pagination checkpoint to update
+     * @throws InterruptedException if the processing is interrupted
+     * */
+    private void processPlacesPages(BlockingQueue<PlacesPage> pages, Map<String, AggregatedDevice> retrievedDevices,
+                                    AtomicReference<OrganizationState.PaginationCheckpoint> checkpoint) throws InterruptedException {
+        PlacesPage page;
+        while ((page = pages.take()) != PlacesPage.END) {
+            processPlacesPage(page, retrievedDevices);
+            // Merged devices are only attached to the checkpoint once the processing is over, see #fetchOrganizationDevices
+            checkpoint.set(new OrganizationState.PaginationCheckpoint(page.continuationToken, page.pageNumber, page.pageTimestamp, null, 0));
+        }
+    }
+
+    /**
+     * Extract devices of all the places within the page, format and catalog them.
+     * If {@link #placeProcessingParallelism} is above 1, places of a large page are processed in parallel
+     * with {@link #placesProcessingPool}. Either way the devices are merged in the order of the places.
+     *
+     * @param page page to process
+     * @param retrievedDevices map to put extracted devices to
+     * */
+    private void processPlacesPage(PlacesPage page, Map<String, AggregatedDevice> retrievedDevices) {
+        boolean withPlaceProperties = placePropertiesEnabled;
+        ForkJoinPool pool = placesProcessingPool;
+        List<AggregatedDevice> pageDevices;
+        if (pool == null || page.places.size() <= PLACES_PER_TASK) {
+            pageDevices = new ArrayList<>();
+            for (JsonNode room : page.places) {
+                pageDevices.addAll(processPlace(room, aggregatedDeviceProcessor, page, withPlaceProperties));
+            }
+        } else {
+            List<JsonNode> places = new ArrayList<>(page.places.size());
+            page.places.forEach(places::add);
+            ThreadLocal<AggregatedDeviceProcessor> processors = placeProcessors;
+            pageDevices = ForkJoinMapper.map(pool, places, PLACES_PER_TASK, room -> processPlace(room, processors.get(), page, withPlaceProperties));
+        }
+        for (AggregatedDevice aggregatedDevice : pageDevices) {
+            retrievedDevices.put(aggregatedDevice.getDeviceId(), aggregatedDevice);
+        }
+        page.pageProfile.complete();
+    }
+
+    /**
+     * Extract devices of a single page of places the same way the collection does, with the processing
+     * currently configured: either sequential, or parallel with {@link #placesProcessingPool}.
+     * Allows the places processing to be verified without fetching the pages.
+     *
+     * @param organizationId id of the organization the places belong to
+     * @param places places of the page
+     * @param pageTimestamp time the page was retrieved at, in milliseconds
+     * @return devices extracted, by device id, in the order of the places
+     * */
+    Map<String, AggregatedDevice> processPlaces(String organizationId, JsonNode places, long pageTimestamp) {
+        CycleProfiler profiler = new CycleProfiler();
+        Map<String, AggregatedDevice> retrievedDevices = new LinkedHashMap<>();
+        processPlacesPage(new PlacesPage(profiler.startPage(organizationId, 1), CycleDiagnostics.create(logger), 1, pageTimestamp, "", places),
+                retrievedDevices);
+        return retrievedDevices;
+    }
+
+    /**
+     * Extract devices of a single place, format and catalog them.
+     * Thread-safe, as long as the device processor provided is not used by other threads at the same time.
+     *
+     * @param room place to extract devices of
+     * @param processor device processor to extract devices with
+     * @param page page the place belongs to
+     * @param withPlaceProperties whether {@link Constants.MappingModels#PLACE} properties are added to the devices
+     * @return devices of the place
+     * */
+    private List<AggregatedDevice> processPlace(JsonNode room, AggregatedDeviceProcessor processor, PlacesPage page, boolean withPlaceProperties) {
+        CycleProfiler.PageProfile pageProfile = page.pageProfile;
+        Map<String, String> placeProperties = new HashMap<>();
+        if (withPlaceProperties) {
+            placeProperties.put(Constants.Properties.PLACE_ID, room.at("/id").asText());
+            placeProperties.put(Constants.Properties.PLACE_TYPE, room.at("/type").asText());
+            placeProperties.put(Constants.Properties.PLACE_NAME, room.at("/name").asText());
+            placeProperties.put(Constants.Properties.PLACE_GROUP, room.at("/group").asText());
+            placeProperties.put(Constants.Properties.PLACE_OCCUPANCY, room.at("/occupancy").asText());
+            placeProperties.put(Constants.Properties.PLACE_CREATED_AT, room.at("/createdAt").asText());
+            placeProperties.put(Constants.Properties.PLACE_SEAT_COUNT, room.at("/seatCount").asText());
+        }
+
+        long stageStart = System.nanoTime();
+        List<AggregatedDevice> placeDevices = processor.extractDevices(room);
+        pageProfile.record(CycleProfiler.Stage.MAPPING, System.nanoTime() - stageStart);
+        long formatting = 0;
+        long catalog = 0;
+        for (AggregatedDevice aggregatedDevice : placeDevices) {
+            Map<String, String> deviceProperties = aggregatedDevice.getProperties();
+            deviceProperties.putAll(placeProperties);
+
+            long deviceStageStart = System.nanoTime();
+            formatProperties(deviceProperties, aggregatedDevice.getDeviceId(), page.diagnostics);
+            long deviceStageEnd = System.nanoTime();
+            formatting += deviceStageEnd - deviceStageStart;
+
+            applyCatalog(aggregatedDevice, page.diagnostics);
+            catalog += System.nanoTime() - deviceStageEnd;
+
+            aggregatedDevice.setTimestamp(page.pageTimestamp);
+        }
+        pageProfile.record(CycleProfiler.Stage.FORMATTING, formatting);
+        pageProfile.record(CycleProfiler.Stage.CATALOG, catalog);
+        return placeDevices;
+    }
+
+    /**
+     * Hand the page over to the processing stage. Waits for the queue capacity to be available,
+     * unless the processing stage is no longer running, in which case its error is propagated.
+     *
+     * @param pages queue to put the page to
+     * @param page page to hand over
+     * @param processing processing stage Future
+     * @throws Exception if processing stage has failed, or the hand-off is interrupted
+     * */
+    private void handOffPlacesPage(BlockingQueue<PlacesPage> pages, PlacesPage page, Future<?> processing) throws Exception {
+        while (!pages.offer(page, 100, TimeUnit.MILLISECONDS)) {
+            if (processing.isDone()) {
+                awaitPlacesProcessing(processing);
+                throw new IllegalStateException("Places processing stage has stopped unexpectedly.");
+            }
+        }
+    }
+
+    /**
+     * Wait for the processing stage to complete, propagating its error, if any
+     *
+     * @param processing processing stage Future
+     * @throws Exception if processing stage has failed
+     * */
+    private void awaitPlacesProcessing(Future<?> processing) throws Exception {
+        try {
+            processing.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Account estimated heap size of the organization devices collected, apply {@link #deviceCacheMemoryPolicy}
+     * to the devices that do not fit into {@link #deviceCacheMemoryLimit}, and register the organization collection success.
+     *
+     * @param organizationState state of the organization the devices belong to
+     * @param organizationDevices devices collected, modified in place if the policy is applied
+     * */
+    private void applyDeviceCacheMemoryLimit(OrganizationState organizationState, Map<String, AggregatedDevice> organizationDevices) {
+        long cacheSize = getDeviceCacheSize(organizationState.getOrganizationId());
+        int degradedDevices = 0;
+        Map<String, AggregatedDevice> knownDevices = organizationState.getDevices();
+        Iterator<AggregatedDevice> devicesIterator = organizationDevices.values().iterator();
+        while (devicesIterator.hasNext()) {
+            AggregatedDevice aggregatedDevice = devicesIterator.next();
+            long deviceSize = MemoryEstimator.estimate(aggregatedDevice);
+            if (deviceCacheMemoryLimit > 0 && cacheSize + deviceSize > deviceCacheMemoryLimit) {
+                // Known devices are kept as is with the REJECT_NEW_DEVICES policy, so they are not counted as degraded
+                if (deviceCacheMemoryPolicy == MemoryLimitPolicy.REJECT_NEW_DEVICES && !knownDevices.containsKey(aggregatedDevice.getDeviceId())) {
+                    degradedDevices++;
+                    devicesIterator.remove();
+                    continue;
                 }
-                // Default timeout between requests, according to Logi Sync Cloud Limitation:
-                // Maximum allowed sustained rate is 1 request per second.
-                //
-                // Only need to do this if this iteration isn't the last one. If there are more organizations to come -
-                // the timeout will fallback to #placeRetrievalTimeout
-                if (StringUtils.isNotNullOrEmpty(continuationToken)) {
-                    TimeUnit.MILLISECONDS.sleep(1000);
+                if (deviceCacheMemoryPolicy == MemoryLimitPolicy.DROP_PROPERTIES) {
+                    degradedDevices++;
+                    aggregatedDevice.setProperties(new HashMap<>());
+                    deviceSize = MemoryEstimator.estimate(aggregatedDevice);
                 }
-            } while (StringUtils.isNotNullOrEmpty(continuationToken));
-            if(orgCounter < organizationIds.size()) {
-                TimeUnit.MILLISECONDS.sleep(placeRetrievalTimeout);
             }
-            orgCounter++;
+            cacheSize += deviceSize;
+        }
+        if (degradedDevices > 0 && logger.isWarnEnabled()) {
+            logger.warn(String.format("Devices cache memory limit of %s bytes is reached, policy %s is applied to %s device(s) of organization %s",
+                    deviceCacheMemoryLimit, deviceCacheMemoryPolicy.getName(), degradedDevices, organizationState.getOrganizationId()));
+        }
+        long organizationSize = cacheSize - getDeviceCacheSize(organizationState.getOrganizationId());
+        organizationState.success(organizationDevices, organizationSize, degradedDevices, System.currentTimeMillis());
+    }
+
+    /**
+     * Retrieve estimated heap size of the devices cache, that is, of the devices of all organizations,
+     * including the devices held by the pagination checkpoints of the incomplete collections
+     *
+     * @param excludedOrganizationId id of organization to exclude from the calculation, null to include all organizations
+     * @return estimated size in bytes
+     * */
+    private long getDeviceCacheSize(String excludedOrganizationId) {
+        long size = 0;
+        for (OrganizationState organizationState: organizationStates.values()) {
+            if (!organizationState.getOrganizationId().equals(excludedOrganizationId)) {
+                size += organizationState.getEstimatedSize() + organizationState.getCheckpointEstimatedSize();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Resolve the error to propagate to the {@link #retrieveMultipleStatistics()} caller.
+     * An error is only propagated if none of the organizations has a successful collection state,
+     * otherwise errors are reported on the organization level as statistics.
+     *
+     * @param organizations list of organizations being monitored
+     * @return {@link Exception} instance of the first organization, or null if at least one organization is healthy
+     * */
+    private Exception resolveLatestError(List<String> organizations) {
+        Exception error = null;
+        for (String organizationId: organizations) {
+            OrganizationState organizationState = organizationStates.get(organizationId);
+            if (organizationState == null || organizationState.getLatestError() == null) {
+                return null;
+            }
+            if (error == null) {
+                error = organizationState.getLatestError();
+            }
+        }
+        return error;
+    }
+
+    /**
+     * Unwrap the error cause, if there's any, so the actual reason of failure is reported
+     *
+     * @param error error to unwrap
+     * @return cause of the error, if present, the error itself otherwise
+     * */
+    private Exception unwrapError(Exception error) {
+        Throwable cause = error.getCause();
+        if (cause instanceof Exception) {
+            return (Exception) cause;
+        }
+        return error;
+    }
+
+    /**
+     * Populate collection state of each organization: status, latest error, consecutive failures,
+     * last success and next attempt timestamps and number of devices
+     *
+     * @param statistics map to populate organization state into
+     * @param dynamicStatistics map to populate organization numeric values into
+     * */
+    private void populateOrganizationStates(Map<String, String> statistics, Map<String, String> dynamicStatistics) {
+        long currentTimestamp = System.currentTimeMillis();
+        for (String organizationId: organizationIds) {
+            OrganizationState organizationState = organizationStates.get(organizationId);
+            if (organizationState == null) {
+                continue;
+            }
+            String group = String.format(Constants.OrganizationHealth.GROUP, organizationId);
+            Exception organizationError = organizationState.getLatestError();
+            String status;
+            if (organizationError == null) {
+                status = Constants.OrganizationHealth.STATUS_OK;
+            } else if (organizationState.isBackingOff(currentTimestamp)) {
+                status = Constants.OrganizationHealth.STATUS_BACKING_OFF;
+            } else {
+                status = Constants.OrganizationHealth.STATUS_ERROR;
+            }
+            statistics.put(group + Constants.OrganizationHealth.STATUS, status);
+            statistics.put(group + Constants.OrganizationHealth.LAST_ERROR, organizationError == null ? "" : String.valueOf(organizationError.getMessage()));
+            statistics.put(group + Constants.OrganizationHealth.LAST_SUCCESS, organizationState.getLastSuccessTimestamp() == 0 ? "" : String.valueOf(new Date(organizationState.getLastSuccessTimestamp())));
+            statistics.put(group + Constants.OrganizationHealth.NEXT_ATTEMPT, organizationState.getNextAttemptTimestamp() == 0 ? "" : String.valueOf(new Date(organizationState.getNextAttemptTimestamp())));
+            dynamicStatistics.put(group + Constants.OrganizationHealth.CONSECUTIVE_FAILURES, String.valueOf(organizationState.getConsecutiveFailures()));
+            dynamicStatistics.put(group + Constants.OrganizationHealth.DEVICES_TOTAL, String.valueOf(organizationState.getDevices().size()));
+            OrganizationState.PaginationCheckpoint checkpoint = organizationState.getPaginationCheckpoint();
+            dynamicStatistics.put(group + Constants.OrganizationHealth.POLL_INTERVAL, String.valueOf(organizationState.getPollInterval() / 1000));
+            dynamicStatistics.put(group + Constants.OrganizationHealth.CHANGE_RATIO, String.format(Locale.ROOT, "%.1f", organizationState.getChangeRatio() * 100));
+            statistics.put(group + Constants.OrganizationHealth.RESUME_PAGE, checkpoint == null ? "" : String.valueOf(checkpoint.getPagesMerged() + 1));
+        }
+    }
+
+    /**
+     * Sleep for the given period of time, as a part of requests pacing, and account it in the cycle profile.
+     * The collection state is checked with {@link #ensureCollectionActive(LogiSyncCloudDeviceDataLoader)} while sleeping, so a stopped or paused
+     * collection does not have to wait for the throttle to be over.
+     *
+     * @param profiler current cycle profiler
+     * @param organizationId organization id the pause is related to
+     * @param timeout time to sleep, in milliseconds
+     * @param loader devices data loader that runs the collection
+     * @throws InterruptedException if the sleep is interrupted or the collection is stopped
+     * */
+    private void throttle(CycleProfiler profiler, String organizationId, long timeout, LogiSyncCloudDeviceDataLoader loader) throws InterruptedException {
+        long throttleStart = System.nanoTime();
+        long throttleEnd = System.currentTimeMillis() + timeout;
+        throttleEndTimestamp = throttleEnd;
+        try {
+            long remaining;
+            while ((remaining = throttleEnd - System.currentTimeMillis()) > 0) {
+                ensureCollectionActive(loader);
+                TimeUnit.MILLISECONDS.sleep(Math.min(remaining, CANCELLATION_CHECK_INTERVAL));
+            }
+        } finally {
+            throttleEndTimestamp = 0;
+            profiler.record(organizationId, CycleProfiler.Stage.THROTTLE, System.nanoTime() - throttleStart);
+        }
+    }
+
+    /**
+     * Check whether the devices collection may proceed. The loader that runs the collection is checked,
+     * rather than {@link #deviceDataLoader}, so a loader that outlived destroy never proceeds
+     * with the loader of the re-initialized instance.
+     *
+     * @param loader devices data loader that runs the collection
+     * @throws InterruptedException if the collection is stopped, or the collector thread is interrupted
+     * @throws CancellationException if the communicator is paused
+     * */
+    private void ensureCollectionActive(LogiSyncCloudDeviceDataLoader loader) throws InterruptedException {
+        if (Thread.currentThread().isInterrupted() || !loader.isInProgress() || loader != deviceDataLoader) {
+            throw new InterruptedException("Devices collection is stopped.");
+        }
+        updateAggregatorStatus();
+        if (devicePaused.get()) {
+            throw new CancellationException("Devices collection is paused.");
         }
+    }
 
-        // Remove cached devices that are not in the latest list of devices
-        aggregatedDevices.entrySet().removeIf(deviceEntry -> !retrievedDeviceIds.contains(deviceEntry.getKey()));
+    /**
+     * Populate stage level profile of the latest devices collection cycle, both in total and per organization
+     *
+     * @param dynamicStatistics map to populate profile values into
+     * */
+    private void populateCycleProfile(Map<String, String> dynamicStatistics) {
+        CycleProfiler.CycleProfile cycleProfile = lastCycleProfile;
+        if (cycleProfile == null) {
+            return;
+        }
+        populateOrganizationProfile(dynamicStatistics, Constants.Profiling.GROUP, cycleProfile.getTotal());
+        cycleProfile.getOrganizations().forEach((organizationId, organizationProfile) ->
+                populateOrganizationProfile(dynamicStatistics, String.format(Constants.Profiling.ORGANIZATION_GROUP, organizationId), organizationProfile));
+    }
+
+    /**
+     * Populate profile values of a single organization (or a cycle total) under the given group name
+     *
+     * @param dynamicStatistics map to populate profile values into
+     * @param group name of the properties group
+     * @param profile profile to take the values from
+     * */
+    private void populateOrganizationProfile(Map<String, String> dynamicStatistics, String group, CycleProfiler.OrganizationProfile profile) {
+        for (CycleProfiler.Stage stage : CycleProfiler.Stage.values()) {
+            dynamicStatistics.put(String.format(Constants.Profiling.STAGE, group, stage.getPropertyName()), String.valueOf(profile.getStageMillis(stage)));
+        }
+        dynamicStatistics.put(String.format(Constants.Profiling.WORK, group), String.valueOf(profile.getWorkMillis()));
+        dynamicStatistics.put(String.format(Constants.Profiling.PAGES, group), String.valueOf(profile.getPages()));
+        dynamicStatistics.put(String.format(Constants.Profiling.AVERAGE_PAGE, group), String.valueOf(profile.getAveragePageMillis()));
+        dynamicStatistics.put(String.format(Constants.Profiling.SLOWEST_PAGE, group), String.valueOf(profile.getSlowestPageMillis()));
     }
 
     /**
@@ -682,14 +1926,16 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
      * This later can be extended to a yml mapping, for now it's a single property that we need to format, so consider
      * this a functional placeholder.
      *
+     * Properties with missing values are reported to the cycle diagnostics, rather than logged one by one.
+     *
      * @param properties map to format properties in
+     * @param deviceId id of the device the properties belong to
+     * @param diagnostics current cycle diagnostics
      * */
-    private void formatProperties(Map<String, String> properties) {
+    private void formatProperties(Map<String, String> properties, String deviceId, CycleDiagnostics diagnostics) {
         properties.forEach((name, value) -> {
             if (StringUtils.isNullOrEmpty(value)) {
-                if (logger.isWarnEnabled()) {
-                    logger.warn(String.format("Unable to format property %s: missing value.", name));
-                }
+                diagnostics.missingValue(name, deviceId);
                 return;
             }
             if (name.endsWith(Constants.Properties.CREATED_AT)) {
@@ -704,13 +1950,23 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
      * Logi Sync does not provide full information on any given models, so we need to do this manually through
      * statically defined catalog.
      *
+     * Devices that are missing from the catalog are reported to the cycle diagnostics, rather than logged one by one.
+     * Devices of types that have no catalog section are reported the same way, and are then treated as
+     * {@link Constants.Catalog#GENERIC_SECTION} devices.
+     *
      * @param device device to set catalog information for
+     * @param diagnostics current cycle diagnostics
      * */
-    private void applyCatalog(AggregatedDevice device) {
+    private void applyCatalog(AggregatedDevice device, CycleDiagnostics diagnostics) {
         String deviceType = device.getType();
         String deviceName = device.getDeviceName();
 
-        Map<String, Constants.CatalogEntry> catalogSection = Constants.Catalog.CATALOG.get(deviceType);
+        Map<String, Constants.CatalogEntry> catalogSection = deviceType == null ? null : Constants.Catalog.CATALOG.get(deviceType);
+        if (catalogSection == null) {
+            diagnostics.uncataloguedDevice(deviceType, deviceName);
+            deviceType = Constants.Catalog.GENERIC_SECTION;
+            catalogSection = Constants.Catalog.CATALOG.get(deviceType);
+        }
         Optional<Constants.CatalogEntry> catalogEntry;
         if (deviceType.equals(Constants.Catalog.COMPUTER_SECTION) || deviceType.equals(Constants.Catalog.GENERIC_SECTION)) {
             catalogEntry = Optional.of(catalogSection.get(""));
@@ -719,9 +1975,7 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
         }
 
         if (!catalogEntry.isPresent()) {
-            if (logger.isInfoEnabled()) {
-                logger.info(String.format("Unable to find catalog entry for type %s and name %s, skipping.", deviceType, deviceName));
-            }
+            diagnostics.uncataloguedDevice(deviceType, deviceName);
             device.setDeviceName(deviceName + " " + device.getSerialNumber());
             return;
         }
@@ -738,20 +1992,26 @@ public class LogiSyncCloudCommunicator extends RestCommunicator implements Aggre
      * The device is considered as paused if did not receive any retrieveMultipleStatistics()
      * calls during {@link LogiSyncCloudCommunicator#validRetrieveStatisticsTimestamp}
      */
-    private synchronized void updateAggregatorStatus() {
-        // If the adapter is destroyed out of order, we need to make sure the device isn't paused here
-        if (validRetrieveStatisticsTimestamp > 0L) {
-            devicePaused = validRetrieveStatisticsTimestamp < System.currentTimeMillis();
-        } else {
-            devicePaused = false;
-        }
+    private void updateAggregatorStatus() {
+        long validTimestamp;
+        boolean paused;
+        // Re-evaluate if the timestamp was updated concurrently, so the latest update always wins
+        do {
+            validTimestamp = validRetrieveStatisticsTimestamp.get();
+            // If the adapter is destroyed out of order, we need to make sure the device isn't paused here
+            paused = validTimestamp > 0L && validTimestamp < System.currentTimeMillis();
+            if (devicePaused.getAndSet(paused) != paused) {
+                logDebugMessage(paused ? "The device communicator is paused." : "The device communicator is resumed.");
+            }
+        } while (validTimestamp != validRetrieveStatisticsTimestamp.get());
     }
 
     /**
-     * Update statistics retrieval timestamp
+     * Update statistics retrieval timestamp.
+     * The timestamp only moves forward, so concurrent calls can't shorten the statistics retrieval validity period.
      * */
-    private synchronized void updateValidRetrieveStatisticsTimestamp() {
-        validRetrieveStatisticsTimestamp = System.currentTimeMillis() + retrieveStatisticsTimeOut;
+    private void updateValidRetrieveStatisticsTimestamp() {
+        validRetrieveStatisticsTimestamp.accumulateAndGet(System.currentTimeMillis() + retrieveStatisticsTimeOut, Math::max);
         updateAggregatorStatus();
     }
 
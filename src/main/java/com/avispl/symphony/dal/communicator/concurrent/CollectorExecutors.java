@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory of the executors that run devices collection: the main collection loop, that fetches the places pages
+ * of the organizations one by one, and the places processing stage of each organization collection.
+ * This is the Java 8 implementation, based on platform threads. On Java 21+ runtimes it is replaced with
+ * the virtual threads implementation, packaged under META-INF/versions/21 of the multi-release jar.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public final class CollectorExecutors {
+    /** Number of platform threads per collector: main collection loop and places processing stage */
+    private static final int COLLECTOR_THREADS = 2;
+
+    private CollectorExecutors() {
+    }
+
+    /**
+     * Create new collector executor, backed by a fixed number of daemon platform threads
+     *
+     * @param name prefix of the executor thread names
+     * @return {@link ExecutorService} instance
+     */
+    public static ExecutorService newCollectorExecutor(String name) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(COLLECTOR_THREADS, threadFactory);
+    }
+
+    /**
+     * Check whether collector executors are backed by virtual threads
+     *
+     * @return false, virtual threads are not available on this runtime
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Fork-join mapping of a list of items, e.g. places of a page, split across a bounded {@link ForkJoinPool}.
+ * Results are merged in the order of the items, so the outcome is the same as of the sequential mapping,
+ * regardless of the parallelism and the order the batches are completed in.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public final class ForkJoinMapper {
+    private ForkJoinMapper() {
+    }
+
+    /**
+     * Create new fork-join pool with the given parallelism, backed by daemon worker threads
+     *
+     * @param name prefix of the pool thread names
+     * @param parallelism max number of worker threads
+     * @return {@link ForkJoinPool} instance
+     */
+    public static ForkJoinPool newPool(String name, int parallelism) {
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(name + "-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Map the items with the pool provided, splitting them into batches of at most the given size
+     *
+     * @param pool to run the mapping in
+     * @param items to map
+     * @param batchSize max number of items mapped by a single task
+     * @param mapper function that maps an item to any number of results, must be thread-safe
+     * @param <T> type of the items
+     * @param <R> type of the results
+     * @return results of all the items, in the order of the items
+     */
+    public static <T, R> List<R> map(ForkJoinPool pool, List<T> items, int batchSize, Function<? super T, ? extends Collection<? extends R>> mapper) {
+        return pool.invoke(new MapTask<>(items, 0, items.size(), Math.max(1, batchSize), mapper));
+    }
+
+    /**
+     * Task that maps a range of the items, splitting it in halves until it fits the batch size
+     *
+     * @param <T> type of the items
+     * @param <R> type of the results
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    private static class MapTask<T, R> extends RecursiveTask<List<R>> {
+        private final List<T> items;
+        private final int from;
+        private final int to;
+        private final int batchSize;
+        private final Function<? super T, ? extends Collection<? extends R>> mapper;
+
+        MapTask(List<T> items, int from, int to, int batchSize, Function<? super T, ? extends Collection<? extends R>> mapper) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected List<R> compute() {
+            if (to - from <= batchSize) {
+                List<R> results = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    results.addAll(mapper.apply(items.get(i)));
+                }
+                return results;
+            }
+            int middle = (from + to) >>> 1;
+            MapTask<T, R> head = new MapTask<>(items, from, middle, batchSize, mapper);
+            head.fork();
+            List<R> tail = new MapTask<>(items, middle, to, batchSize, mapper).compute();
+            List<R> results = head.join();
+            results.addAll(tail);
+            return results;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.data;
+
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * JVM-wide cache of the adapter resources that are expensive to build and are identical for all the adapter instances:
+ * parsed yml model mapping and mTLS {@link SSLContext} instances.
+ * Mapping is parsed once per classloader and shared immutably, SSL contexts are shared between instances
+ * that use the same certificate, private key and keystore password, and are reference counted, so an SSL context
+ * and its key material are dropped as soon as no adapter instance uses it anymore, e.g. after credentials rotation.
+ * SSL contexts are built outside of any shared lock: instances that start with the same credentials wait for a single
+ * build, instances with other credentials are not blocked by it.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public final class AdapterResourcesCache {
+    /** Location of the yml model mapping */
+    private static final String MODEL_MAPPING_PATH = "mapping/model-mapping.yml";
+
+    /** SSL contexts in use, by certificate, private key and password fingerprint */
+    private static final Map<String, SharedSslContext> sslContexts = new ConcurrentHashMap<>();
+
+    private AdapterResourcesCache() {
+    }
+
+    /**
+     * SSL context build, along with the number of adapter instances that use it.
+     * Number of references is only modified within the {@link #sslContexts} compute operations of the entry key.
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    private static class SharedSslContext {
+        private final FutureTask<SSLContext> sslContext;
+        private int references;
+
+        SharedSslContext(Callable<SSLContext> sslContextFactory) {
+            this.sslContext = new FutureTask<>(sslContextFactory);
+        }
+
+        /**
+         * Check whether this entry holds the SSL context provided
+         *
+         * @param context to look for
+         * @return true if the SSL context is built and is the one provided, false otherwise
+         */
+        boolean holds(SSLContext context) {
+            if (!sslContext.isDone()) {
+                return false;
+            }
+            try {
+                return sslContext.get() == context;
+            } catch (InterruptedException | ExecutionException | CancellationException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Lazy holder of the parsed model mapping, so the mapping is parsed once, on first access
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    private static class ModelMappingHolder {
+        private static final Map<String, PropertiesMapping> MODEL_MAPPING = loadModelMapping();
+
+        /**
+         * Parse yml model mapping and wrap it to be immutable
+         *
+         * @return map of model name to {@link PropertiesMapping}
+         */
+        private static Map<String, PropertiesMapping> loadModelMapping() {
+            try {
+                Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(MODEL_MAPPING_PATH, AdapterResourcesCache.class);
+                Map<String, PropertiesMapping> immutableMapping = new LinkedHashMap<>();
+                mapping.forEach((model, propertiesMapping) -> immutableMapping.put(model, new PropertiesMapping(propertiesMapping.getNode(),
+                        propertiesMapping.getFilter(), immutable(propertiesMapping.getProperties()), immutable(propertiesMapping.getStatistics()),
+                        immutable(propertiesMapping.getDynamicStatistics()), immutable(propertiesMapping.getDeviceProperties()),
+                        immutable(propertiesMapping.getControlProperties()))));
+                return Collections.unmodifiableMap(immutableMapping);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to load model mapping from " + MODEL_MAPPING_PATH, e);
+            }
+        }
+
+        /**
+         * Wrap the map to be unmodifiable, keeping null values as is
+         *
+         * @param map to wrap
+         * @return unmodifiable map, or null
+         */
+        private static Map<String, String> immutable(Map<String, String> map) {
+            return map == null ? null : Collections.unmodifiableMap(map);
+        }
+    }
+
+    /**
+     * Retrieve parsed model mapping, shared by all the adapter instances
+     *
+     * @return unmodifiable map of model name to {@link PropertiesMapping}
+     * @throws IOException if the mapping cannot be loaded
+     */
+    public static Map<String, PropertiesMapping> getModelMapping() throws IOException {
+        try {
+            return ModelMappingHolder.MODEL_MAPPING;
+        } catch (LinkageError e) {
+            // ExceptionInInitializerError on the first access, NoClassDefFoundError on the next ones
+            throw new IOException("Unable to load model mapping", e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * Retrieve SSL context for the given credentials, or create one with the factory provided, if there's none yet.
+     * Every SSL context retrieved must be released with {@link #releaseSslContext(SSLContext)} once it's not used anymore.
+     *
+     * @param certificate PEM certificate
+     * @param privateKey PEM private key
+     * @param password keystore password
+     * @param sslContextFactory factory to create a new {@link SSLContext} with
+     * @return {@link SSLContext} instance
+     * @throws Exception if the SSL context cannot be created
+     */
+    public static SSLContext getSslContext(String certificate, String privateKey, String password, Callable<SSLContext> sslContextFactory) throws Exception {
+        String fingerprint = fingerprint(certificate, privateKey, password);
+        SharedSslContext sharedSslContext = sslContexts.compute(fingerprint, (key, existing) -> {
+            SharedSslContext entry = existing != null ? existing : new SharedSslContext(sslContextFactory);
+            entry.references++;
+            return entry;
+        });
+        // The first caller builds the SSL context, the rest of the callers with the same credentials wait for it
+        sharedSslContext.sslContext.run();
+        try {
+            return sharedSslContext.sslContext.get();
+        } catch (ExecutionException e) {
+            // Failed build is not cached, so the next attempt builds a new SSL context
+            sslContexts.remove(fingerprint, sharedSslContext);
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        } catch (InterruptedException e) {
+            release(fingerprint, sharedSslContext);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Release SSL context retrieved with {@link #getSslContext(String, String, String, Callable)}.
+     * SSL context is removed from the cache when it's released by all the adapter instances that use it.
+     *
+     * @param sslContext to release
+     */
+    public static void releaseSslContext(SSLContext sslContext) {
+        for (Map.Entry<String, SharedSslContext> entry : sslContexts.entrySet()) {
+            if (entry.getValue().holds(sslContext)) {
+                release(entry.getKey(), entry.getValue());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retrieve number of SSL contexts that are in use
+     *
+     * @return number of cached SSL contexts
+     */
+    public static int getSslContextsTotal() {
+        return sslContexts.size();
+    }
+
+    /**
+     * Release a reference to the cache entry, and remove the entry once it's not referenced anymore
+     *
+     * @param fingerprint key of the entry
+     * @param sharedSslContext entry to release
+     */
+    private static void release(String fingerprint, SharedSslContext sharedSslContext) {
+        sslContexts.computeIfPresent(fingerprint, (key, entry) -> {
+            if (entry != sharedSslContext) {
+                // Entry was replaced after a failed build, the reference belongs to the failed one
+                return entry;
+            }
+            return --entry.references <= 0 ? null : entry;
+        });
+    }
+
+    /**
+     * Build SHA-256 fingerprint of the values provided, so the credentials are never used as keys as is
+     *
+     * @param values to build fingerprint of
+     * @return hex string of the fingerprint
+     * @throws NoSuchAlgorithmException if SHA-256 is not available
+     */
+    private static String fingerprint(String... values) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        for (String value : values) {
+            messageDigest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) 0);
+        }
+        StringBuilder fingerprint = new StringBuilder();
+        for (byte b : messageDigest.digest()) {
+            fingerprint.append(String.format("%02x", b));
+        }
+        return fingerprint.toString();
+    }
+}
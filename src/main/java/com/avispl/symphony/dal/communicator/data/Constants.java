@@ -10,6 +10,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -118,16 +119,19 @@ public interface Constants {
      * @since 1.0.0
      */
     class CatalogManager {
-        private static Map<String, Map<String, CatalogEntry>> catalog = new HashMap<>();
+        /** Catalog is loaded once per classloader and shared by all the adapter instances, so it's immutable */
+        private static final Map<String, Map<String, CatalogEntry>> catalog;
         static {
             ObjectMapper objectMapper = new ObjectMapper();
+            Map<String, Map<String, CatalogEntry>> data = new HashMap<>();
             try {
-                Map<String, Map<String, CatalogEntry>> data = objectMapper.readValue(CatalogEntry.class.getResourceAsStream("/catalog.json"),
-                        new TypeReference<Map<String, Map<String, CatalogEntry>>>() {});
-                catalog.putAll(data);
+                objectMapper.readValue(CatalogEntry.class.getResourceAsStream("/catalog.json"),
+                        new TypeReference<Map<String, Map<String, CatalogEntry>>>() {})
+                        .forEach((section, entries) -> data.put(section, Collections.unmodifiableMap(entries)));
             } catch (IOException e) {
                 logger.error("Unable to resolve catalog content. Skipping.");
             }
+            catalog = Collections.unmodifiableMap(data);
         }
 
         public static Map<String, Map<String, CatalogEntry>> getCatalog() {
@@ -162,6 +166,13 @@ public interface Constants {
         String ADAPTER_UPTIME_MIN = "AdapterUptime(min)";
         String ADAPTER_UPTIME = "AdapterUptime";
         String ADAPTER_RUNNER_SIZE = "RunnerSize(B)";
+        String DEVICE_CACHE_MEMORY_LIMIT = "DeviceCacheMemoryLimit(B)";
+        String DEGRADED_DEVICES_TOTAL = "DegradedDevicesTotal";
+        String ADAPTER_INIT_DURATION = "AdapterInitDuration(ms)";
+        String COLLECTOR_THREADS = "CollectorThreads";
+        String RECORDING_MODE = "RecordingMode";
+        String DYNAMIC_STATISTICS_EMITTED = "DynamicStatisticsDeadband#LastCycleEmitted";
+        String DYNAMIC_STATISTICS_SUPPRESSED = "DynamicStatisticsDeadband#LastCycleSuppressed";
 
         String PLACE_ID = "Place#ID";
         String PLACE_TYPE = "Place#Type";
@@ -170,6 +181,46 @@ public interface Constants {
         String PLACE_OCCUPANCY = "Place#Occupancy";
         String PLACE_CREATED_AT = "Place#CreatedAt";
         String PLACE_SEAT_COUNT = "Place#SeatCount";
+        String SENSORS_GROUP = "Sensors#";
+    }
+
+    /**
+     * Devices collection cycle profile property constants
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    interface Profiling {
+        String GROUP = "CollectionProfile";
+        String ORGANIZATION_GROUP = "CollectionProfile:%s";
+        String STAGE = "%s#%s(ms)";
+        String WORK = "%s#TotalWork(ms)";
+        String PAGES = "%s#Pages";
+        String AVERAGE_PAGE = "%s#AveragePage(ms)";
+        String SLOWEST_PAGE = "%s#SlowestPage(ms)";
+    }
+
+    /**
+     * Organization collection health property constants
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    interface OrganizationHealth {
+        String GROUP = "Organization:%s#";
+        String STATUS = "Status";
+        String LAST_ERROR = "LastError";
+        String LAST_SUCCESS = "LastSuccess";
+        String NEXT_ATTEMPT = "NextAttempt";
+        String CONSECUTIVE_FAILURES = "ConsecutiveFailures";
+        String DEVICES_TOTAL = "DevicesTotal";
+        String RESUME_PAGE = "ResumePage";
+        String POLL_INTERVAL = "PollInterval(s)";
+        String CHANGE_RATIO = "ChangeRatio(%)";
+
+        String STATUS_OK = "OK";
+        String STATUS_ERROR = "Error";
+        String STATUS_BACKING_OFF = "BackingOff";
     }
 
     /**
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.data;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Deadband filter of the device dynamic statistics. A dynamic statistic is only reported when its value has changed
+ * beyond the threshold configured for it, compared to the value reported the last time, or when the heartbeat interval
+ * has passed since it was reported, so unchanged values do not end up as new historical points.
+ *
+ * Thresholds are configured as a comma-separated list of name:threshold entries, e.g.
+ * Sensors#CO2(ppm):25,Sensors#Humidity(%):5%,*:0. Threshold with a trailing '%' is relative to the reported value,
+ * otherwise it's absolute. '*' sets the threshold of the statistics that are not listed explicitly, 0 by default,
+ * so that only the unchanged values are suppressed. Values that are not numeric are reported whenever they change.
+ *
+ * The filter is applied to the devices returned by each statistics retrieval, so a value counts as reported only once
+ * Symphony has actually retrieved it, no matter how many collection cycles run in between of two retrievals.
+ * Retrievals and the collection thread may use the filter concurrently, so its state is guarded by the instance lock.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public class DynamicStatisticsDeadband {
+    private static final String WILDCARD = "*";
+    private static final String RELATIVE_SUFFIX = "%";
+
+    /**
+     * Deadband threshold of a single statistic
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    private static class Threshold {
+        private final double value;
+        private final boolean relative;
+
+        Threshold(double value, boolean relative) {
+            this.value = value;
+            this.relative = relative;
+        }
+
+        /**
+         * Check whether the value has changed beyond the threshold
+         *
+         * @param reportedValue value reported the last time
+         * @param currentValue current value
+         * @return true if the value must be reported, false otherwise
+         */
+        boolean isExceeded(String reportedValue, String currentValue) {
+            if (Objects.equals(reportedValue, currentValue)) {
+                return false;
+            }
+            try {
+                double reported = Double.parseDouble(reportedValue);
+                double delta = Math.abs(Double.parseDouble(currentValue) - reported);
+                return delta > (relative ? Math.abs(reported) * value / 100 : value);
+            } catch (NumberFormatException | NullPointerException e) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Value of a statistic, as it was reported the last time
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    private static class ReportedValue {
+        private final String value;
+        private final long timestamp;
+
+        ReportedValue(String value, long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+    }
+
+    private final Map<String, Threshold> thresholds = new HashMap<>();
+    private final Threshold defaultThreshold;
+    private final long heartbeatInterval;
+
+    /** Values reported the last time, by device id and statistic name */
+    private final Map<String, Map<String, ReportedValue>> reportedValues = new HashMap<>();
+
+    /** Number of dynamic statistics reported during the latest retrieval, not cumulative */
+    private volatile long lastCycleEmitted;
+
+    /** Number of dynamic statistics suppressed during the latest retrieval, not cumulative */
+    private volatile long lastCycleSuppressed;
+
+    /**
+     * Create deadband filter
+     *
+     * @param thresholds comma-separated list of name:threshold entries
+     * @param heartbeatInterval max period in between of two reports of the same statistic, in milliseconds
+     * @throws IllegalArgumentException if a threshold cannot be parsed or is negative, or the heartbeat interval is not positive
+     */
+    public DynamicStatisticsDeadband(String thresholds, long heartbeatInterval) {
+        if (heartbeatInterval <= 0) {
+            // Every statistic would be reported with every retrieval, so the deadband would do nothing
+            throw new IllegalArgumentException("Dynamic statistics heartbeat interval must be positive: " + heartbeatInterval);
+        }
+        this.heartbeatInterval = heartbeatInterval;
+        Threshold wildcardThreshold = new Threshold(0, false);
+        for (String entry : thresholds.split(",")) {
+            if (entry.trim().isEmpty()) {
+                continue;
+            }
+            int separatorIndex = entry.lastIndexOf(':');
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Unable to parse dynamic statistics deadband threshold, name:threshold is expected: " + entry);
+            }
+            String name = entry.substring(0, separatorIndex).trim();
+            String threshold = entry.substring(separatorIndex + 1).trim();
+            boolean relative = threshold.endsWith(RELATIVE_SUFFIX);
+            if (relative) {
+                threshold = threshold.substring(0, threshold.length() - RELATIVE_SUFFIX.length()).trim();
+            }
+            double thresholdValue;
+            try {
+                thresholdValue = Double.parseDouble(threshold);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unable to parse dynamic statistics deadband threshold, number is expected: " + entry, e);
+            }
+            if (!(thresholdValue >= 0) || Double.isInfinite(thresholdValue)) {
+                throw new IllegalArgumentException("Dynamic statistics deadband threshold must be a non-negative number: " + entry);
+            }
+            Threshold parsedThreshold = new Threshold(thresholdValue, relative);
+            if (WILDCARD.equals(name)) {
+                wildcardThreshold = parsedThreshold;
+            } else {
+                this.thresholds.put(name, parsedThreshold);
+            }
+        }
+        defaultThreshold = wildcardThreshold;
+    }
+
+    /**
+     * Filter dynamic statistics of the devices that are about to be returned by a statistics retrieval.
+     * Devices are never modified, since they are kept in the organizations cache with all the statistics:
+     * devices with suppressed statistics are replaced with copies that only have the statistics to report.
+     * Statistics that pass the filter are considered reported, so the devices provided must be the ones that are
+     * actually returned.
+     *
+     * @param devices devices to return
+     * @param currentTimestamp current time in milliseconds
+     * @return devices to return, with the dynamic statistics filtered
+     */
+    public synchronized List<AggregatedDevice> apply(List<AggregatedDevice> devices, long currentTimestamp) {
+        List<AggregatedDevice> filteredDevices = new ArrayList<>(devices.size());
+        long emitted = 0;
+        long suppressed = 0;
+        for (AggregatedDevice device : devices) {
+            Map<String, String> dynamicStatistics = device.getDynamicStatistics();
+            if (dynamicStatistics == null || dynamicStatistics.isEmpty()) {
+                filteredDevices.add(device);
+                continue;
+            }
+            Map<String, ReportedValue> deviceValues = reportedValues.computeIfAbsent(device.getDeviceId(), deviceId -> new HashMap<>());
+            Map<String, String> filteredStatistics = new LinkedHashMap<>();
+            for (Map.Entry<String, String> statistic : dynamicStatistics.entrySet()) {
+                ReportedValue reportedValue = deviceValues.get(statistic.getKey());
+                if (reportedValue == null || currentTimestamp - reportedValue.timestamp >= heartbeatInterval
+                        || thresholds.getOrDefault(statistic.getKey(), defaultThreshold).isExceeded(reportedValue.value, statistic.getValue())) {
+                    filteredStatistics.put(statistic.getKey(), statistic.getValue());
+                    deviceValues.put(statistic.getKey(), new ReportedValue(statistic.getValue(), currentTimestamp));
+                }
+            }
+            emitted += filteredStatistics.size();
+            suppressed += dynamicStatistics.size() - filteredStatistics.size();
+            filteredDevices.add(filteredStatistics.size() == dynamicStatistics.size() ? device : copyWithDynamicStatistics(device, filteredStatistics));
+        }
+        lastCycleEmitted = emitted;
+        lastCycleSuppressed = suppressed;
+        return filteredDevices;
+    }
+
+    /**
+     * Forget the reported values of the devices that are not published anymore,
+     * so they are reported in full if they come back.
+     *
+     * @param deviceIds ids of the devices that are currently published
+     */
+    public synchronized void retainDevices(Set<String> deviceIds) {
+        reportedValues.keySet().retainAll(deviceIds);
+    }
+
+    /**
+     * Create a shallow copy of the device, with the dynamic statistics provided
+     *
+     * @param device to copy
+     * @param dynamicStatistics dynamic statistics of the copy
+     * @return {@link AggregatedDevice} copy
+     */
+    private static AggregatedDevice copyWithDynamicStatistics(AggregatedDevice device, Map<String, String> dynamicStatistics) {
+        AggregatedDevice copy = new AggregatedDevice();
+        copy.setDeviceId(device.getDeviceId());
+        copy.setDeviceName(device.getDeviceName());
+        copy.setDeviceMake(device.getDeviceMake());
+        copy.setDeviceModel(device.getDeviceModel());
+        copy.setDeviceType(device.getDeviceType());
+        copy.setType(device.getType());
+        copy.setCategory(device.getCategory());
+        copy.setSerialNumber(device.getSerialNumber());
+        copy.setDeviceOnline(device.getDeviceOnline());
+        copy.setMacAddresses(device.getMacAddresses());
+        copy.setAviSplAssetId(device.getAviSplAssetId());
+        copy.setOwnerAssetId(device.getOwnerAssetId());
+        copy.setProperties(device.getProperties());
+        copy.setStatistics(device.getStatistics());
+        copy.setControl(device.getControl());
+        copy.setControllableProperties(device.getControllableProperties());
+        copy.setMonitoredStatistics(device.getMonitoredStatistics());
+        copy.setTimestamp(device.getTimestamp());
+        copy.setDynamicStatistics(dynamicStatistics);
+        return copy;
+    }
+
+    /**
+     * Retrieves {@link #lastCycleEmitted}
+     *
+     * @return value of {@link #lastCycleEmitted}
+     */
+    public long getLastCycleEmitted() {
+        return lastCycleEmitted;
+    }
+
+    /**
+     * Retrieves {@link #lastCycleSuppressed}
+     *
+     * @return value of {@link #lastCycleSuppressed}
+     */
+    public long getLastCycleSuppressed() {
+        return lastCycleSuppressed;
+    }
+}
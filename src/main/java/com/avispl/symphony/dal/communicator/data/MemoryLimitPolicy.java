@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.data;
+
+import java.util.Arrays;
+
+/**
+ * Degradation policy, applied to the devices cache once its estimated size reaches the configured memory limit
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public enum MemoryLimitPolicy {
+    /** Devices over the limit are kept with status and statistics only, their properties are dropped */
+    DROP_PROPERTIES("DropProperties"),
+    /** Devices over the limit are not added to the cache, unless they are already monitored */
+    REJECT_NEW_DEVICES("RejectNewDevices");
+
+    private final String name;
+
+    MemoryLimitPolicy(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves {@link #name}
+     *
+     * @return value of {@link #name}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Find the policy by its name, case-insensitive
+     *
+     * @param name of the policy
+     * @return {@link MemoryLimitPolicy} instance, {@link #DROP_PROPERTIES} if the name is not recognized
+     */
+    public static MemoryLimitPolicy fromName(String name) {
+        return Arrays.stream(values()).filter(policy -> policy.name.equalsIgnoreCase(String.valueOf(name).trim()))
+                .findFirst().orElse(DROP_PROPERTIES);
+    }
+}
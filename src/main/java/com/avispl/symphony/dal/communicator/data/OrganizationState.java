@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.data;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Collection state of a single organization. Each organization is collected as an independent unit, so it keeps
+ * its own latest devices, error state, backoff and last success timestamp. One organization failing does not affect
+ * devices and pacing of the others.
+ *
+ * Instances are written by the devices collection thread only, and read by the statistics retrieval calls,
+ * so all the fields are volatile and the devices map is replaced as a whole, never modified.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public class OrganizationState {
+    /**
+     * Pagination progress of an incomplete organization collection: continuation token of the next page
+     * and devices of the pages that are already merged. Allows the next attempt to resume from the failed page,
+     * instead of starting over from the first one.
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    public static class PaginationCheckpoint {
+        private final String continuationToken;
+        private final int pagesMerged;
+        private final long timestamp;
+        private final Map<String, AggregatedDevice> devices;
+        /** Estimated heap size of {@link #devices}, in bytes */
+        private final long estimatedSize;
+
+        public PaginationCheckpoint(String continuationToken, int pagesMerged, long timestamp, Map<String, AggregatedDevice> devices, long estimatedSize) {
+            this.continuationToken = continuationToken;
+            this.pagesMerged = pagesMerged;
+            this.timestamp = timestamp;
+            this.devices = devices;
+            this.estimatedSize = estimatedSize;
+        }
+
+        /**
+         * Retrieves {@link #continuationToken}
+         *
+         * @return value of {@link #continuationToken}
+         */
+        public String getContinuationToken() {
+            return continuationToken;
+        }
+
+        /**
+         * Retrieves {@link #pagesMerged}
+         *
+         * @return value of {@link #pagesMerged}
+         */
+        public int getPagesMerged() {
+            return pagesMerged;
+        }
+
+        /**
+         * Retrieves {@link #timestamp}
+         *
+         * @return value of {@link #timestamp}
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * Retrieves {@link #devices}
+         *
+         * @return value of {@link #devices}
+         */
+        public Map<String, AggregatedDevice> getDevices() {
+            return devices;
+        }
+
+        /**
+         * Retrieves {@link #estimatedSize}
+         *
+         * @return value of {@link #estimatedSize}
+         */
+        public long getEstimatedSize() {
+            return estimatedSize;
+        }
+
+        /**
+         * Create a copy of the checkpoint, with the devices provided
+         *
+         * @param mergedDevices devices of the pages merged
+         * @param mergedDevicesSize estimated heap size of the devices merged, in bytes
+         * @return new {@link PaginationCheckpoint} instance
+         */
+        public PaginationCheckpoint withDevices(Map<String, AggregatedDevice> mergedDevices, long mergedDevicesSize) {
+            return new PaginationCheckpoint(continuationToken, pagesMerged, timestamp, mergedDevices, mergedDevicesSize);
+        }
+    }
+
+    private final String organizationId;
+
+    /** Pagination progress of the latest failed collection, null if there's nothing to resume */
+    private volatile PaginationCheckpoint paginationCheckpoint;
+
+    /** Devices collected during the latest successful organization collection, immutable */
+    private volatile Map<String, AggregatedDevice> devices = Collections.emptyMap();
+
+    /** Estimated heap size of {@link #devices}, in bytes */
+    private volatile long estimatedSize;
+
+    /** Number of devices degraded during the latest collection, due to the memory limit */
+    private volatile int degradedDevices;
+
+    /** Latest error that occurred during the organization collection, null if the latest attempt succeeded */
+    private volatile Exception latestError;
+
+    /** Number of failed collection attempts in a row */
+    private volatile int consecutiveFailures;
+
+    /** Timestamp of the latest successful collection */
+    private volatile long lastSuccessTimestamp;
+
+    /** Timestamp of the latest collection attempt */
+    private volatile long lastAttemptTimestamp;
+
+    /** Duration of the latest collection attempt, successful or not, in milliseconds */
+    private volatile long lastCollectionDuration;
+
+    /** Fingerprints of the device status and stable properties of {@link #devices}, by device id. Used by the collection thread only */
+    private Map<String, Integer> deviceFingerprints = Collections.emptyMap();
+
+    /**
+     * Share of the devices that were added, removed, or changed their status or stable properties during the latest
+     * successful collection, compared to the previous one. 0 means no changes, 1 means everything has changed.
+     */
+    private volatile double changeRatio = 1;
+
+    /** Current polling interval of the organization, adapted to {@link #changeRatio}, in milliseconds */
+    private volatile long pollInterval;
+
+    /** Timestamp before which the organization must not be collected again, due to the failures backoff */
+    private volatile long nextAttemptTimestamp;
+
+    public OrganizationState(String organizationId) {
+        this.organizationId = organizationId;
+    }
+
+    /**
+     * Check whether the organization is backing off after failures and must be skipped
+     *
+     * @param currentTimestamp current time in milliseconds
+     * @return true if the organization collection must be skipped, false otherwise
+     */
+    public boolean isBackingOff(long currentTimestamp) {
+        return nextAttemptTimestamp > currentTimestamp;
+    }
+
+    /**
+     * Register collection attempt start
+     *
+     * @param currentTimestamp current time in milliseconds
+     */
+    public void attempt(long currentTimestamp) {
+        lastAttemptTimestamp = currentTimestamp;
+    }
+
+    /**
+     * Register successful collection, replacing the organization devices and resetting the error state
+     *
+     * @param collectedDevices devices collected, the map must not be modified afterwards
+     * @param collectedDevicesSize estimated heap size of the devices collected, in bytes
+     * @param collectedDegradedDevices number of devices degraded due to the memory limit
+     * @param currentTimestamp current time in milliseconds
+     */
+    public void success(Map<String, AggregatedDevice> collectedDevices, long collectedDevicesSize, int collectedDegradedDevices, long currentTimestamp) {
+        Map<String, Integer> collectedFingerprints = new HashMap<>(collectedDevices.size() * 4 / 3 + 1);
+        int changedDevices = 0;
+        for (AggregatedDevice device : collectedDevices.values()) {
+            int fingerprint = fingerprint(device);
+            collectedFingerprints.put(device.getDeviceId(), fingerprint);
+            // Either added or changed
+            Integer knownFingerprint = deviceFingerprints.get(device.getDeviceId());
+            if (knownFingerprint == null || knownFingerprint != fingerprint) {
+                changedDevices++;
+            }
+        }
+        int removedDevices = 0;
+        for (String deviceId : deviceFingerprints.keySet()) {
+            if (!collectedFingerprints.containsKey(deviceId)) {
+                removedDevices++;
+            }
+        }
+        int devicesTotal = collectedFingerprints.size() + removedDevices;
+        changeRatio = devicesTotal == 0 ? 0 : (double) (changedDevices + removedDevices) / devicesTotal;
+        deviceFingerprints = collectedFingerprints;
+
+        devices = Collections.unmodifiableMap(collectedDevices);
+        estimatedSize = collectedDevicesSize;
+        degradedDevices = collectedDegradedDevices;
+        paginationCheckpoint = null;
+        latestError = null;
+        consecutiveFailures = 0;
+        nextAttemptTimestamp = 0;
+        lastSuccessTimestamp = currentTimestamp;
+        lastCollectionDuration = currentTimestamp - lastAttemptTimestamp;
+    }
+
+    /**
+     * Build fingerprint of the device status and its stable properties. Sensors readings, their timestamp
+     * and place occupancy change with every poll, so they are not a part of the fingerprint.
+     *
+     * @param device to build fingerprint of
+     * @return fingerprint of the device
+     */
+    private static int fingerprint(AggregatedDevice device) {
+        int fingerprint = Objects.hashCode(device.getDeviceOnline());
+        Map<String, String> properties = device.getProperties();
+        if (properties != null) {
+            for (Map.Entry<String, String> property : properties.entrySet()) {
+                String propertyName = property.getKey();
+                if (!propertyName.startsWith(Constants.Properties.SENSORS_GROUP) && !Constants.Properties.PLACE_OCCUPANCY.equals(propertyName)) {
+                    // Order independent, as the map entries hash codes are summed up
+                    fingerprint += property.hashCode();
+                }
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Register failed collection and schedule the next attempt with an exponential backoff.
+     * Devices collected previously are kept, so the organization is still monitored with the latest known data.
+     *
+     * @param error the collection failed with
+     * @param checkpoint pagination progress to resume from during the next attempt, null to start over
+     * @param currentTimestamp current time in milliseconds
+     * @param initialBackoff backoff after the first failure, in milliseconds
+     * @param maxBackoff maximum backoff, in milliseconds
+     */
+    public void failure(Exception error, PaginationCheckpoint checkpoint, long currentTimestamp, long initialBackoff, long maxBackoff) {
+        latestError = error;
+        paginationCheckpoint = checkpoint;
+        consecutiveFailures++;
+        long backoff = initialBackoff;
+        for (int i = 1; i < consecutiveFailures && backoff < maxBackoff; i++) {
+            backoff *= 2;
+        }
+        nextAttemptTimestamp = currentTimestamp + Math.min(backoff, maxBackoff);
+        lastCollectionDuration = currentTimestamp - lastAttemptTimestamp;
+    }
+
+    /**
+     * Adapt {@link #pollInterval} to the latest {@link #changeRatio}: any change brings it back to the min interval,
+     * while no changes double it, up to the max interval
+     *
+     * @param minInterval min polling interval, in milliseconds
+     * @param maxInterval max polling interval, in milliseconds
+     */
+    public void adaptPollInterval(long minInterval, long maxInterval) {
+        if (changeRatio > 0) {
+            pollInterval = minInterval;
+        } else {
+            pollInterval = Math.max(minInterval, Math.min(maxInterval, pollInterval * 2));
+        }
+    }
+
+    /**
+     * Check whether the organization polling interval is over, so it has to be collected
+     *
+     * @param currentTimestamp current time in milliseconds
+     * @param tolerance time the interval may be cut short by, to match the collection cycles, in milliseconds
+     * @return true if the organization has to be collected, false otherwise
+     */
+    public boolean isPollDue(long currentTimestamp, long tolerance) {
+        return currentTimestamp + tolerance >= lastAttemptTimestamp + pollInterval;
+    }
+
+    /**
+     * Reset {@link #pollInterval}, so the organization is collected during the next cycle
+     */
+    public void resetPollInterval() {
+        pollInterval = 0;
+    }
+
+    /**
+     * Register collection attempt suspended before it was complete, e.g. due to the communicator pause.
+     * It's not accounted as a failure, the pagination progress is kept so the next attempt resumes from it.
+     *
+     * @param checkpoint pagination progress to resume from during the next attempt, null to start over
+     */
+    public void suspend(PaginationCheckpoint checkpoint) {
+        paginationCheckpoint = checkpoint;
+    }
+
+    /**
+     * Cancel the failures backoff, so the organization is collected during the next cycle.
+     * Consecutive failures are kept, so the backoff keeps growing if the organization fails again.
+     */
+    public void resetBackoff() {
+        nextAttemptTimestamp = 0;
+    }
+
+    /**
+     * Retrieves {@link #organizationId}
+     *
+     * @return value of {@link #organizationId}
+     */
+    public String getOrganizationId() {
+        return organizationId;
+    }
+
+    /**
+     * Retrieve {@link #paginationCheckpoint} if it's still valid, otherwise discard it
+     *
+     * @param currentTimestamp current time in milliseconds
+     * @param validity continuation token validity period, in milliseconds
+     * @return {@link PaginationCheckpoint} to resume from, or null if the collection must start over
+     */
+    public PaginationCheckpoint resumeCheckpoint(long currentTimestamp, long validity) {
+        PaginationCheckpoint checkpoint = paginationCheckpoint;
+        if (checkpoint != null && currentTimestamp - checkpoint.getTimestamp() > validity) {
+            paginationCheckpoint = null;
+            return null;
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Retrieves {@link #paginationCheckpoint}
+     *
+     * @return value of {@link #paginationCheckpoint}
+     */
+    public PaginationCheckpoint getPaginationCheckpoint() {
+        return paginationCheckpoint;
+    }
+
+    /**
+     * Retrieves {@link #devices}
+     *
+     * @return value of {@link #devices}
+     */
+    public Map<String, AggregatedDevice> getDevices() {
+        return devices;
+    }
+
+    /**
+     * Retrieves {@link #estimatedSize}
+     *
+     * @return value of {@link #estimatedSize}
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Retrieve estimated heap size of the devices held by {@link #paginationCheckpoint}, that are not published yet
+     *
+     * @return size in bytes, 0 if there's no checkpoint
+     */
+    public long getCheckpointEstimatedSize() {
+        PaginationCheckpoint checkpoint = paginationCheckpoint;
+        return checkpoint == null ? 0 : checkpoint.getEstimatedSize();
+    }
+
+    /**
+     * Retrieves {@link #degradedDevices}
+     *
+     * @return value of {@link #degradedDevices}
+     */
+    public int getDegradedDevices() {
+        return degradedDevices;
+    }
+
+    /**
+     * Retrieves {@link #latestError}
+     *
+     * @return value of {@link #latestError}
+     */
+    public Exception getLatestError() {
+        return latestError;
+    }
+
+    /**
+     * Retrieves {@link #consecutiveFailures}
+     *
+     * @return value of {@link #consecutiveFailures}
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Retrieves {@link #lastSuccessTimestamp}
+     *
+     * @return value of {@link #lastSuccessTimestamp}
+     */
+    public long getLastSuccessTimestamp() {
+        return lastSuccessTimestamp;
+    }
+
+    /**
+     * Retrieves {@link #lastAttemptTimestamp}
+     *
+     * @return value of {@link #lastAttemptTimestamp}
+     */
+    public long getLastAttemptTimestamp() {
+        return lastAttemptTimestamp;
+    }
+
+    /**
+     * Retrieves {@link #lastCollectionDuration}
+     *
+     * @return value of {@link #lastCollectionDuration}
+     */
+    public long getLastCollectionDuration() {
+        return lastCollectionDuration;
+    }
+
+    /**
+     * Retrieves {@link #changeRatio}
+     *
+     * @return value of {@link #changeRatio}
+     */
+    public double getChangeRatio() {
+        return changeRatio;
+    }
+
+    /**
+     * Retrieves {@link #pollInterval}
+     *
+     * @return value of {@link #pollInterval}
+     */
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    /**
+     * Retrieves {@link #nextAttemptTimestamp}
+     *
+     * @return value of {@link #nextAttemptTimestamp}
+     */
+    public long getNextAttemptTimestamp() {
+        return nextAttemptTimestamp;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.data;
+
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Filter of the mapped property groups, so the groups that are not enabled are removed from the model mapping
+ * and are never evaluated, formatted or cached.
+ * Group of a property is the part of its name before '#'. Properties with no group are always kept.
+ * Enabled groups are matched case-insensitive, trailing '*' matches any group with the given prefix,
+ * e.g. Peripheral* matches both PeripheralCamera and PeripheralSpeaker. No groups provided means all groups are enabled.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public class PropertyGroupsFilter {
+    private static final String GROUP_SEPARATOR = "#";
+    private static final String WILDCARD = "*";
+
+    private final List<String> enabledGroups;
+
+    public PropertyGroupsFilter(List<String> enabledGroups) {
+        this.enabledGroups = enabledGroups;
+    }
+
+    /**
+     * Check whether all the property groups are enabled, so there's nothing to filter
+     *
+     * @return true if all groups are enabled, false otherwise
+     */
+    public boolean isUnrestricted() {
+        return enabledGroups.isEmpty();
+    }
+
+    /**
+     * Check whether the group is enabled
+     *
+     * @param group name of the group
+     * @return true if the group is enabled, false otherwise
+     */
+    public boolean isGroupEnabled(String group) {
+        if (isUnrestricted()) {
+            return true;
+        }
+        for (String enabledGroup : enabledGroups) {
+            if (enabledGroup.endsWith(WILDCARD)) {
+                String prefix = enabledGroup.substring(0, enabledGroup.length() - WILDCARD.length());
+                if (group.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                    return true;
+                }
+            } else if (enabledGroup.equalsIgnoreCase(group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the property must be kept: it either has no group, or its group is enabled
+     *
+     * @param propertyName name of the property
+     * @return true if the property is enabled, false otherwise
+     */
+    public boolean isPropertyEnabled(String propertyName) {
+        int separatorIndex = propertyName.indexOf(GROUP_SEPARATOR);
+        return separatorIndex < 0 || isGroupEnabled(propertyName.substring(0, separatorIndex));
+    }
+
+    /**
+     * Create a copy of the model mapping with the disabled property groups removed.
+     * The mapping provided is not modified, since it's shared between the adapter instances.
+     *
+     * @param mapping model mapping to filter
+     * @return filtered model mapping, or the mapping provided if all groups are enabled
+     */
+    public Map<String, PropertiesMapping> filter(Map<String, PropertiesMapping> mapping) {
+        if (isUnrestricted()) {
+            return mapping;
+        }
+        Map<String, PropertiesMapping> filteredMapping = new LinkedHashMap<>();
+        mapping.forEach((model, propertiesMapping) -> filteredMapping.put(model, new PropertiesMapping(propertiesMapping.getNode(),
+                propertiesMapping.getFilter(), filterProperties(propertiesMapping.getProperties()), filterProperties(propertiesMapping.getStatistics()),
+                filterProperties(propertiesMapping.getDynamicStatistics()), propertiesMapping.getDeviceProperties(),
+                filterProperties(propertiesMapping.getControlProperties()))));
+        return Collections.unmodifiableMap(filteredMapping);
+    }
+
+    /**
+     * Create an unmodifiable copy of the properties mapping, with the disabled property groups removed
+     *
+     * @param properties mapping of property name to its expression
+     * @return filtered properties mapping, or null if the mapping provided is null
+     */
+    private Map<String, String> filterProperties(Map<String, String> properties) {
+        if (properties == null) {
+            return null;
+        }
+        Map<String, String> filteredProperties = new LinkedHashMap<>();
+        properties.forEach((propertyName, expression) -> {
+            if (isPropertyEnabled(propertyName)) {
+                filteredProperties.put(propertyName, expression);
+            }
+        });
+        return Collections.unmodifiableMap(filteredProperties);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.data;
+
+import java.util.Arrays;
+
+/**
+ * API responses recording mode, used to capture the Logi Sync Cloud responses for offline profiling
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public enum RecordingMode {
+    /** API responses are neither recorded nor replayed */
+    OFF("Off"),
+    /** API responses are appended to the recording file, as they are received */
+    RECORD("Record"),
+    /** API responses are served from the recording file, no API requests are issued */
+    REPLAY("Replay");
+
+    private final String name;
+
+    RecordingMode(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Retrieves {@link #name}
+     *
+     * @return value of {@link #name}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Find the mode by its name, case-insensitive
+     *
+     * @param name of the mode
+     * @return {@link RecordingMode} instance, {@link #OFF} if the name is not recognized
+     */
+    public static RecordingMode fromName(String name) {
+        return Arrays.stream(values()).filter(mode -> mode.name.equalsIgnoreCase(String.valueOf(name).trim()))
+                .findFirst().orElse(OFF);
+    }
+}
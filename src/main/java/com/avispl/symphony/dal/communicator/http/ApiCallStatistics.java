@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.http;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the Logi Sync Cloud API calls, populated by {@link LogiSyncCloudRequestInterceptor}.
+ * Keeps first-byte latencies of the most recent successful calls, so the API reachability and network latency
+ * can be derived without issuing any extra requests. First-byte latency is the time it takes to receive the response
+ * status and headers, so the response payload transfer is not included.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public class ApiCallStatistics {
+    /** Number of the most recent successful call first-byte latencies to keep */
+    private static final int LATENCY_SAMPLES = 16;
+
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyIndex;
+    private int latencyCount;
+    private volatile long lastSuccessTimestamp;
+    private final LongAdder requestsTotal = new LongAdder();
+    private final LongAdder tooManyRequestsTotal = new LongAdder();
+
+    /**
+     * Register API request issued, regardless of its outcome
+     */
+    public void request() {
+        requestsTotal.increment();
+    }
+
+    /**
+     * Register API request rejected with 429 Too Many Requests
+     */
+    public void tooManyRequests() {
+        tooManyRequestsTotal.increment();
+    }
+
+    /**
+     * Reset {@link #requestsTotal} and {@link #tooManyRequestsTotal} counters
+     */
+    public void resetCounters() {
+        requestsTotal.reset();
+        tooManyRequestsTotal.reset();
+    }
+
+    /**
+     * Retrieves {@link #requestsTotal}
+     *
+     * @return value of {@link #requestsTotal}
+     */
+    public long getRequestsTotal() {
+        return requestsTotal.sum();
+    }
+
+    /**
+     * Retrieves {@link #tooManyRequestsTotal}
+     *
+     * @return value of {@link #tooManyRequestsTotal}
+     */
+    public long getTooManyRequestsTotal() {
+        return tooManyRequestsTotal.sum();
+    }
+
+    /**
+     * Register successful API call
+     *
+     * @param firstByteLatency time it took to receive the response status and headers, in milliseconds
+     */
+    public synchronized void success(long firstByteLatency) {
+        latencies[latencyIndex] = firstByteLatency;
+        latencyIndex = (latencyIndex + 1) % LATENCY_SAMPLES;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+        lastSuccessTimestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Retrieves {@link #lastSuccessTimestamp}
+     *
+     * @return value of {@link #lastSuccessTimestamp}
+     */
+    public long getLastSuccessTimestamp() {
+        return lastSuccessTimestamp;
+    }
+
+    /**
+     * Retrieve the lowest first-byte latency of the most recent successful API calls. Server-side processing time
+     * of a request, e.g. paging of the places, is included in its first-byte latency, so the lowest one
+     * is the closest to the network round trip time.
+     *
+     * @return latency in milliseconds, or -1 if there were no successful calls yet
+     */
+    public synchronized long getFirstByteLatency() {
+        if (latencyCount == 0) {
+            return -1;
+        }
+        long latency = latencies[0];
+        for (int i = 1; i < latencyCount; i++) {
+            latency = Math.min(latency, latencies[i]);
+        }
+        return latency;
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.http;
+
+import com.avispl.symphony.dal.communicator.data.RecordingMode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Interceptor for RestTemplate that records the API responses, or serves them back from a recording,
+ * so the collection can be profiled offline with the real payloads.
+ *
+ * In {@link RecordingMode#RECORD} mode every exchange is appended to the recording file as a separate gzip member,
+ * holding a single JSON line with the request, response latency, status, headers and body. Each record is complete
+ * once written, so the file stays readable even if the adapter is stopped in the middle of a cycle.
+ * Values of the configured fields are redacted from both the JSON body and the headers before they are written,
+ * credential headers, such as Authorization or X-API-Key, are always redacted. Request headers are never recorded.
+ *
+ * In {@link RecordingMode#REPLAY} mode no requests are issued: responses are served in the recorded order for each
+ * request method and path, after the recorded latency divided by the replay speed. Once the recorded responses
+ * of a request are over, replay starts over from the first one.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public class ApiRecordingInterceptor implements ClientHttpRequestInterceptor {
+    private static final Log logger = LogFactory.getLog(ApiRecordingInterceptor.class);
+    private static final String REDACTED = "[REDACTED]";
+    /** Headers that are redacted regardless of the configured fields */
+    private static final List<String> CREDENTIAL_HEADERS = Arrays.asList("Authorization", "Proxy-Authorization", "Cookie", "Set-Cookie", "X-API-Key");
+
+    private static final String FIELD_TIMESTAMP = "timestamp";
+    private static final String FIELD_METHOD = "method";
+    private static final String FIELD_URI = "uri";
+    private static final String FIELD_LATENCY = "latency";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_STATUS_TEXT = "statusText";
+    private static final String FIELD_HEADERS = "headers";
+    private static final String FIELD_BODY = "body";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RecordingMode mode;
+    private final String recordingFile;
+    private final double replaySpeed;
+    /** Names of the JSON fields and headers to redact, lowercase */
+    private final Set<String> redactedFields;
+    /** Names of the headers to redact: {@link #CREDENTIAL_HEADERS} and {@link #redactedFields} */
+    private final Set<String> redactedHeaders;
+
+    /** Recorded responses, by request key, loaded with the first replayed request */
+    private Map<String, List<JsonNode>> recordedResponses;
+    /** Index of the next response to replay, by request key */
+    private final Map<String, Integer> replayPositions = new HashMap<>();
+
+    /**
+     * Create recording interceptor
+     *
+     * @param mode either {@link RecordingMode#RECORD} or {@link RecordingMode#REPLAY}
+     * @param recordingFile path to the recording file
+     * @param replaySpeed replay speed multiplier, 1 is the original speed, 0 or less means no delays at all
+     * @param redactedFields names of the JSON fields and headers to redact, case-insensitive
+     */
+    public ApiRecordingInterceptor(RecordingMode mode, String recordingFile, double replaySpeed, List<String> redactedFields) {
+        if (mode == RecordingMode.OFF) {
+            throw new IllegalArgumentException("Recording interceptor requires either Record or Replay mode.");
+        }
+        this.mode = mode;
+        this.recordingFile = recordingFile;
+        this.replaySpeed = replaySpeed;
+        this.redactedFields = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        this.redactedFields.addAll(redactedFields);
+        this.redactedHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        this.redactedHeaders.addAll(CREDENTIAL_HEADERS);
+        this.redactedHeaders.addAll(redactedFields);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (mode == RecordingMode.REPLAY) {
+            return replay(request);
+        }
+        long requestStart = System.nanoTime();
+        BufferedClientHttpResponse response = BufferedClientHttpResponse.of(execution.execute(request, body));
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStart);
+        try {
+            record(request, latency, response);
+        } catch (IOException e) {
+            // Recording must never affect the collection itself
+            logger.warn(String.format("Unable to record API response to %s: %s", recordingFile, e.getMessage()));
+        }
+        return response;
+    }
+
+    /**
+     * Append the exchange to the recording file, as a separate gzip member
+     *
+     * @param request that was executed
+     * @param latency time it took to receive the response, in milliseconds
+     * @param response that was received
+     * @throws IOException if the record cannot be written
+     */
+    private void record(HttpRequest request, long latency, BufferedClientHttpResponse response) throws IOException {
+        ObjectNode record = objectMapper.createObjectNode();
+        record.put(FIELD_TIMESTAMP, System.currentTimeMillis());
+        record.put(FIELD_METHOD, request.getMethod().name());
+        record.put(FIELD_URI, requestPath(request.getURI()));
+        record.put(FIELD_LATENCY, latency);
+        record.put(FIELD_STATUS, response.getStatusCode().value());
+        record.put(FIELD_STATUS_TEXT, response.getStatusText());
+        ObjectNode headers = record.putObject(FIELD_HEADERS);
+        for (Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+            ArrayNode values = headers.putArray(header.getKey());
+            for (String value : header.getValue()) {
+                values.add(redactedHeaders.contains(header.getKey()) ? REDACTED : value);
+            }
+        }
+        record.put(FIELD_BODY, redactBody(new String(response.getBodyBytes(), StandardCharsets.UTF_8)));
+
+        byte[] line = (objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+        synchronized (this) {
+            try (OutputStream output = new GZIPOutputStream(new FileOutputStream(recordingFile, true))) {
+                output.write(line);
+            }
+        }
+    }
+
+    /**
+     * Redact the configured fields of a JSON body. Bodies that are not JSON are kept as is.
+     *
+     * @param body response body
+     * @return redacted response body
+     */
+    private String redactBody(String body) {
+        if (redactedFields.isEmpty() || body.isEmpty()) {
+            return body;
+        }
+        try {
+            JsonNode json = objectMapper.readTree(body);
+            redact(json);
+            return objectMapper.writeValueAsString(json);
+        } catch (IOException e) {
+            return body;
+        }
+    }
+
+    /**
+     * Replace values of the configured fields with {@link #REDACTED}, recursively
+     *
+     * @param node JSON node to redact
+     */
+    private void redact(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode objectNode = (ObjectNode) node;
+            Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (redactedFields.contains(field.getKey())) {
+                    field.setValue(objectNode.textNode(REDACTED));
+                } else {
+                    redact(field.getValue());
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                redact(element);
+            }
+        }
+    }
+
+    /**
+     * Serve the next recorded response of the request, after the recorded latency divided by {@link #replaySpeed}
+     *
+     * @param request to serve the response for
+     * @return recorded response
+     * @throws IOException if there's no recorded response for the request
+     */
+    private ClientHttpResponse replay(HttpRequest request) throws IOException {
+        String requestKey = request.getMethod().name() + " " + requestPath(request.getURI());
+        JsonNode record;
+        synchronized (this) {
+            if (recordedResponses == null) {
+                recordedResponses = loadRecording();
+            }
+            List<JsonNode> responses = recordedResponses.get(requestKey);
+            if (responses == null) {
+                throw new IOException(String.format("No recorded response for %s in %s", requestKey, recordingFile));
+            }
+            int position = replayPositions.getOrDefault(requestKey, 0);
+            record = responses.get(position % responses.size());
+            replayPositions.put(requestKey, position + 1);
+        }
+
+        if (replaySpeed > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep((long) (record.path(FIELD_LATENCY).asLong() / replaySpeed));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Response replay was interrupted.", e);
+            }
+        }
+        HttpHeaders headers = new HttpHeaders();
+        Iterator<Map.Entry<String, JsonNode>> recordedHeaders = record.path(FIELD_HEADERS).fields();
+        while (recordedHeaders.hasNext()) {
+            Map.Entry<String, JsonNode> header = recordedHeaders.next();
+            List<String> values = new ArrayList<>();
+            header.getValue().forEach(value -> values.add(value.asText()));
+            headers.put(header.getKey(), values);
+        }
+        return new BufferedClientHttpResponse(record.path(FIELD_STATUS).asInt(), record.path(FIELD_STATUS_TEXT).asText(),
+                headers, record.path(FIELD_BODY).asText().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Load all the records of the recording file, grouped by request method and path, in the recorded order
+     *
+     * @return recorded responses, by request key
+     * @throws IOException if the recording cannot be read
+     */
+    private Map<String, List<JsonNode>> loadRecording() throws IOException {
+        Map<String, List<JsonNode>> responses = new HashMap<>();
+        int records = 0;
+        // GZIPInputStream reads the concatenated gzip members as a single stream
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(recordingFile)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                JsonNode record = objectMapper.readTree(line);
+                responses.computeIfAbsent(record.path(FIELD_METHOD).asText() + " " + record.path(FIELD_URI).asText(), key -> new ArrayList<>()).add(record);
+                records++;
+            }
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info(String.format("Loaded %s recorded API responses for %s requests from %s", records, responses.size(), recordingFile));
+        }
+        return Collections.unmodifiableMap(responses);
+    }
+
+    /**
+     * Request path and query, without the scheme and host, so a recording can be replayed against any host
+     *
+     * @param uri request uri
+     * @return path and query of the request
+     */
+    private static String requestPath(URI uri) {
+        String query = uri.getRawQuery();
+        return query == null ? uri.getRawPath() : uri.getRawPath() + "?" + query;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link ClientHttpResponse} with the body fully read into memory, so it can be both recorded and consumed
+ * by the RestTemplate, or served from a recording without any connection behind it.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public class BufferedClientHttpResponse implements ClientHttpResponse {
+    private final int statusCode;
+    private final String statusText;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    public BufferedClientHttpResponse(int statusCode, String statusText, HttpHeaders headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusText = statusText;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * Read the response provided into memory and close it
+     *
+     * @param response to buffer
+     * @return {@link BufferedClientHttpResponse} instance
+     * @throws IOException if the response body cannot be read
+     */
+    public static BufferedClientHttpResponse of(ClientHttpResponse response) throws IOException {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            InputStream responseBody = response.getBody();
+            if (responseBody != null) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = responseBody.read(buffer)) != -1) {
+                    body.write(buffer, 0, read);
+                }
+            }
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            return new BufferedClientHttpResponse(response.getStatusCode().value(), response.getStatusText(), headers, body.toByteArray());
+        } finally {
+            response.close();
+        }
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+        return HttpStatusCode.valueOf(statusCode);
+    }
+
+    @Override
+    public String getStatusText() {
+        return statusText;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+    }
+
+    /**
+     * Retrieves {@link #body}
+     *
+     * @return value of {@link #body}
+     */
+    public byte[] getBodyBytes() {
+        return body;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release, the body is in memory
+    }
+}
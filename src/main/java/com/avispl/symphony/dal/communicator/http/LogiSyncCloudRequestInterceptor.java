@@ -11,6 +11,7 @@ import org.springframework.http.client.ClientHttpResponse;
 
 import javax.security.auth.login.FailedLoginException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -21,17 +22,37 @@ import java.util.concurrent.TimeUnit;
  * @since 1.0.0
  */
 public class LogiSyncCloudRequestInterceptor implements ClientHttpRequestInterceptor {
+    /** Statistics of the API calls, to register successful calls in */
+    private final ApiCallStatistics apiCallStatistics;
+
+    public LogiSyncCloudRequestInterceptor(ApiCallStatistics apiCallStatistics) {
+        this.apiCallStatistics = apiCallStatistics;
+    }
+
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long requestStart = System.nanoTime();
         ClientHttpResponse response = execution.execute(request, body);
+        // Response body is not read yet, only the status and headers are received
+        long firstByteLatency = System.nanoTime() - requestStart;
+        apiCallStatistics.request();
         if (response.getRawStatusCode() == 429) {
+            apiCallStatistics.tooManyRequests();
             try {
                 // If it's 429 - just retry in 1 second.
                 TimeUnit.MILLISECONDS.sleep(1000);
             } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Request retry was interrupted.");
             }
+            requestStart = System.nanoTime();
             response = execution.execute(request, body);
+            firstByteLatency = System.nanoTime() - requestStart;
+            apiCallStatistics.request();
+            if (response.getRawStatusCode() == 429) {
+                // Throttling that persists through the retry is counted as well
+                apiCallStatistics.tooManyRequests();
+            }
         }
         if (response.getRawStatusCode() == 401) {
             // Throw an error here, pick it up later in {@link LogiSyncCloudCommunicator} and propagate to UI.
@@ -42,6 +63,9 @@ public class LogiSyncCloudRequestInterceptor implements ClientHttpRequestInterce
             String errorMessage = "Unable to authorize, your organization is not Logitech Select enabled or your client certificate is either expired or deactivated.";
             throw new ResourceNotReachableException(errorMessage, new FailedLoginException(errorMessage));
         }
+        if (response.getRawStatusCode() < 400) {
+            apiCallStatistics.success(TimeUnit.NANOSECONDS.toMillis(firstByteLatency));
+        }
         return response;
     }
 }
\ No newline at end of file
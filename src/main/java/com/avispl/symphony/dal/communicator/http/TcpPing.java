@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.http;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking TCP ping. All the connection attempts are started at once and are completed with a single
+ * {@link Selector}, within a hard connect deadline, so the ping never takes longer than the timeout provided.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public final class TcpPing {
+    private static final Log logger = LogFactory.getLog(TcpPing.class);
+
+    private TcpPing() {
+    }
+
+    /**
+     * Connect to the host and port provided with a number of concurrent attempts and report the median connection time.
+     * Attempts that did not succeed within the timeout are accounted as the timeout value.
+     *
+     * @param host to connect to
+     * @param port to connect to
+     * @param attempts number of concurrent connection attempts
+     * @param timeout connect deadline, in milliseconds
+     * @return median connection time in milliseconds, min 1, or timeout if no attempt has succeeded
+     * @throws IOException if the selector cannot be opened
+     */
+    public static int ping(String host, int port, int attempts, int timeout) throws IOException {
+        int attemptsTotal = Math.max(1, attempts);
+        long[] results = new long[attemptsTotal];
+        Arrays.fill(results, timeout);
+        InetSocketAddress address = new InetSocketAddress(host, port);
+        if (address.isUnresolved()) {
+            logDebugMessage(String.format("PING FAILED: Unable to resolve host %s", host));
+            return timeout;
+        }
+
+        int succeeded = 0;
+        try (Selector selector = Selector.open()) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+            for (int i = 0; i < attemptsTotal; i++) {
+                SocketChannel channel = SocketChannel.open();
+                try {
+                    channel.configureBlocking(false);
+                    long attemptStart = System.nanoTime();
+                    if (channel.connect(address)) {
+                        results[i] = elapsedMillis(attemptStart);
+                        succeeded++;
+                        channel.close();
+                    } else {
+                        channel.register(selector, SelectionKey.OP_CONNECT, new long[]{i, attemptStart});
+                    }
+                } catch (IOException e) {
+                    logDebugMessage(String.format("PING FAILED: Attempt #%s to connect to %s on port %s failed: %s", i + 1, host, port, e.getMessage()));
+                    channel.close();
+                }
+            }
+
+            long remaining;
+            while (!selector.keys().isEmpty() && (remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+                selector.select(remaining);
+                for (SelectionKey key : selector.selectedKeys()) {
+                    long[] attempt = (long[]) key.attachment();
+                    SocketChannel channel = (SocketChannel) key.channel();
+                    try {
+                        if (channel.finishConnect()) {
+                            results[(int) attempt[0]] = elapsedMillis(attempt[1]);
+                            succeeded++;
+                            if (logger.isTraceEnabled()) {
+                                logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", attempt[0] + 1, host, port, results[(int) attempt[0]]));
+                            }
+                        }
+                    } catch (IOException e) {
+                        logDebugMessage(String.format("PING FAILED: Attempt #%s to connect to %s on port %s failed: %s", attempt[0] + 1, host, port, e.getMessage()));
+                    } finally {
+                        key.cancel();
+                        channel.close();
+                    }
+                }
+                selector.selectedKeys().clear();
+                // Cancelled keys are only deregistered during the next selection
+                selector.selectNow();
+            }
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+        }
+
+        if (succeeded == 0) {
+            logDebugMessage(String.format("PING TIMEOUT: Connection to %s did not succeed within the timeout period of %sms", host, timeout));
+            return timeout;
+        }
+        Arrays.sort(results);
+        return (int) Math.max(1, Math.min(timeout, results[attemptsTotal / 2]));
+    }
+
+    /**
+     * Time elapsed since the given moment
+     *
+     * @param start start time, in nanoseconds
+     * @return elapsed time in milliseconds
+     */
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    /**
+     * Logging debug message with checking if it's enabled first
+     *
+     * @param message to log
+     */
+    private static void logDebugMessage(String message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message);
+        }
+    }
+}
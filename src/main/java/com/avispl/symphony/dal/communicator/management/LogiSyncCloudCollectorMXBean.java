@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.management;
+
+import java.util.Map;
+
+/**
+ * Management interface of the Logi Sync Cloud devices collector. Each communicator instance registers its own MXBean,
+ * so the collector internals can be tracked live, independently of the Symphony statistics polling.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public interface LogiSyncCloudCollectorMXBean {
+    /**
+     * Retrieve number of devices in the devices cache
+     *
+     * @return number of cached devices
+     */
+    int getCachedDevicesTotal();
+
+    /**
+     * Retrieve estimated heap size of the devices cache
+     *
+     * @return cache size in bytes
+     */
+    long getDeviceCacheSize();
+
+    /**
+     * Retrieve id of the organization that is being collected
+     *
+     * @return organization id, or empty string if there's no collection in progress
+     */
+    String getCurrentOrganization();
+
+    /**
+     * Retrieve number of the page that is being collected
+     *
+     * @return page number, or 0 if there's no collection in progress
+     */
+    int getCurrentPage();
+
+    /**
+     * Retrieve time left until the collector proceeds with the next request or cycle
+     *
+     * @return pending wait in milliseconds, 0 if the collector is not waiting
+     */
+    long getPendingWait();
+
+    /**
+     * Retrieve duration of the latest collection attempt of each organization
+     *
+     * @return durations in milliseconds, by organization id
+     */
+    Map<String, Long> getLastCollectionDurations();
+
+    /**
+     * Retrieve number of API requests issued since the adapter start or the latest {@link #resetCounters()} call
+     *
+     * @return number of requests
+     */
+    long getRequestsTotal();
+
+    /**
+     * Retrieve number of API requests rejected with 429 Too Many Requests since the adapter start
+     * or the latest {@link #resetCounters()} call
+     *
+     * @return number of rejected requests
+     */
+    long getTooManyRequestsTotal();
+
+    /**
+     * Check whether the collection is paused, due to no statistics retrieval calls from Symphony
+     *
+     * @return true if the collection is paused, false otherwise
+     */
+    boolean isPaused();
+
+    /**
+     * Retrieve the latest collection error
+     *
+     * @return error message, or empty string if the latest collection succeeded
+     */
+    String getLastError();
+
+    /**
+     * Start the next collection cycle right away, including the organizations that are backing off after failures
+     * or are polled less often due to no device changes.
+     * Has no effect while the collection is paused.
+     */
+    void forceRefresh();
+
+    /**
+     * Reset API requests counters
+     */
+    void resetCounters();
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.profiling;
+
+import org.apache.commons.logging.Log;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-cycle aggregation of the per-device diagnostics: properties with missing values, by property name,
+ * and devices missing from the catalog, by device type.
+ * Instead of a log line per device and property, the counters are emitted as a single summary line
+ * once the cycle is over, with a few sampled examples for each key.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public class CycleDiagnostics {
+    /** Max number of examples to keep for each key */
+    private static final int SAMPLES = 3;
+
+    /** Diagnostics instance that ignores everything, used when the logging is disabled */
+    public static final CycleDiagnostics DISABLED = new CycleDiagnostics(false);
+
+    private final boolean enabled;
+    private final Map<String, Counter> missingValues = new ConcurrentHashMap<>();
+    private final Map<String, Counter> uncataloguedDevices = new ConcurrentHashMap<>();
+
+    /**
+     * Counter of occurrences with sampled examples
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    private static class Counter {
+        private final LongAdder count = new LongAdder();
+        private final List<String> samples = new CopyOnWriteArrayList<>();
+
+        /**
+         * Register occurrence, keep it as an example if there's not enough examples yet
+         *
+         * @param sample example of the occurrence
+         */
+        void register(String sample) {
+            count.increment();
+            if (samples.size() < SAMPLES) {
+                samples.add(sample);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return count.sum() + " " + samples.subList(0, Math.min(SAMPLES, samples.size()));
+        }
+    }
+
+    private CycleDiagnostics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Create diagnostics for a new cycle. If neither info nor warning level is enabled -
+     * {@link #DISABLED} is returned, so no diagnostics are collected at all.
+     *
+     * @param logger logger the summary is going to be written to
+     * @return {@link CycleDiagnostics} instance
+     */
+    public static CycleDiagnostics create(Log logger) {
+        return logger.isWarnEnabled() || logger.isInfoEnabled() ? new CycleDiagnostics(true) : DISABLED;
+    }
+
+    /**
+     * Register property with a missing value
+     *
+     * @param propertyName name of the property
+     * @param deviceId id of the device the property belongs to
+     */
+    public void missingValue(String propertyName, String deviceId) {
+        if (enabled) {
+            missingValues.computeIfAbsent(propertyName, key -> new Counter()).register(deviceId);
+        }
+    }
+
+    /**
+     * Register device that has no catalog entry
+     *
+     * @param deviceType type of the device
+     * @param deviceName name of the device
+     */
+    public void uncataloguedDevice(String deviceType, String deviceName) {
+        if (enabled) {
+            uncataloguedDevices.computeIfAbsent(String.valueOf(deviceType), key -> new Counter()).register(deviceName);
+        }
+    }
+
+    /**
+     * Write a single summary line of the cycle diagnostics: warning if there were properties with missing values,
+     * info otherwise. Nothing is written if there's nothing to report.
+     *
+     * @param logger to write the summary to
+     */
+    public void logSummary(Log logger) {
+        if (!enabled || (missingValues.isEmpty() && uncataloguedDevices.isEmpty())) {
+            return;
+        }
+        boolean warning = !missingValues.isEmpty();
+        if (warning ? !logger.isWarnEnabled() : !logger.isInfoEnabled()) {
+            return;
+        }
+        String summary = String.format("Devices collection cycle diagnostics. Properties with missing values: %s. Devices missing from catalog, by type: %s.",
+                new TreeMap<>(missingValues), new TreeMap<>(uncataloguedDevices));
+        if (warning) {
+            logger.warn(summary);
+        } else {
+            logger.info(summary);
+        }
+    }
+}
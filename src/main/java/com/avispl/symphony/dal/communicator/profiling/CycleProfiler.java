@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.profiling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lightweight profiler of a single devices collection cycle.
+ * Collects nanosecond time spent in each {@link Stage} of the collection pipeline, per organization and per page.
+ * Deliberate throttling sleeps are accounted separately in {@link Stage#THROTTLE}, so the work stages report
+ * actual processing time only.
+ *
+ * One instance is created per collection cycle, it is written by the collector and published via {@link #complete()}
+ * as an immutable {@link CycleProfile} once the cycle is over.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public class CycleProfiler {
+    private static final Log logger = LogFactory.getLog(CycleProfiler.class);
+
+    /**
+     * Collection pipeline stages
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    public enum Stage {
+        HTTP_WAIT("HTTPWait"),
+        JSON_PARSE("JSONParse"),
+        MAPPING("MappingExtraction"),
+        FORMATTING("Formatting"),
+        CATALOG("Catalog"),
+        SWEEP("Sweep"),
+        THROTTLE("Throttle");
+
+        private final String propertyName;
+
+        Stage(String propertyName) {
+            this.propertyName = propertyName;
+        }
+
+        /**
+         * Retrieves {@link #propertyName}
+         *
+         * @return value of {@link #propertyName}
+         */
+        public String getPropertyName() {
+            return propertyName;
+        }
+    }
+
+    /**
+     * Profile of a single organization, collected within the cycle
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    public static class OrganizationProfile {
+        private final LongAdder[] stageNanos = new LongAdder[Stage.values().length];
+        private final AtomicInteger pages = new AtomicInteger();
+        private final AtomicLong pagesNanos = new AtomicLong();
+        private final AtomicLong slowestPageNanos = new AtomicLong();
+
+        OrganizationProfile() {
+            for (int i = 0; i < stageNanos.length; i++) {
+                stageNanos[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Retrieves time spent in a given stage
+         *
+         * @param stage to get value for
+         * @return time in milliseconds
+         */
+        public long getStageMillis(Stage stage) {
+            return TimeUnit.NANOSECONDS.toMillis(stageNanos[stage.ordinal()].sum());
+        }
+
+        /**
+         * Retrieves total time spent in all stages, except for {@link Stage#THROTTLE}
+         *
+         * @return time in milliseconds
+         */
+        public long getWorkMillis() {
+            long total = 0;
+            for (Stage stage : Stage.values()) {
+                if (stage != Stage.THROTTLE) {
+                    total += stageNanos[stage.ordinal()].sum();
+                }
+            }
+            return TimeUnit.NANOSECONDS.toMillis(total);
+        }
+
+        /**
+         * Retrieves number of pages processed
+         *
+         * @return number of pages
+         */
+        public int getPages() {
+            return pages.get();
+        }
+
+        /**
+         * Retrieves average page processing time, throttling excluded
+         *
+         * @return time in milliseconds
+         */
+        public long getAveragePageMillis() {
+            int pageCount = pages.get();
+            return pageCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(pagesNanos.get() / pageCount);
+        }
+
+        /**
+         * Retrieves the slowest page processing time, throttling excluded
+         *
+         * @return time in milliseconds
+         */
+        public long getSlowestPageMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(slowestPageNanos.get());
+        }
+    }
+
+    /**
+     * Page level profile, used to track the time spent on each page of an organization
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    public class PageProfile {
+        private final String organizationId;
+        private final int pageNumber;
+        private final LongAdder[] stageNanos = new LongAdder[Stage.values().length];
+
+        PageProfile(String organizationId, int pageNumber) {
+            this.organizationId = organizationId;
+            this.pageNumber = pageNumber;
+            for (int i = 0; i < stageNanos.length; i++) {
+                stageNanos[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Record time spent in a stage for this page, and the page organization.
+         * Called concurrently by the places processing workers, so it must not lock.
+         *
+         * @param stage to record time for
+         * @param nanos time in nanoseconds
+         */
+        public void record(Stage stage, long nanos) {
+            stageNanos[stage.ordinal()].add(nanos);
+            CycleProfiler.this.record(organizationId, stage, nanos);
+        }
+
+        /**
+         * Close the page profile and account it in the organization profile.
+         * Called once all the page places are processed.
+         */
+        public void complete() {
+            long total = 0;
+            StringBuilder breakdown = new StringBuilder();
+            for (Stage stage : Stage.values()) {
+                if (stage == Stage.THROTTLE) {
+                    continue;
+                }
+                long nanos = stageNanos[stage.ordinal()].sum();
+                total += nanos;
+                breakdown.append(' ').append(stage.getPropertyName()).append('=').append(TimeUnit.NANOSECONDS.toMillis(nanos)).append("ms");
+            }
+            accountPage(organization(organizationId), total);
+            accountPage(CycleProfiler.this.total, total);
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("Organization %s page %s processed in %sms:%s", organizationId, pageNumber,
+                        TimeUnit.NANOSECONDS.toMillis(total), breakdown));
+            }
+        }
+    }
+
+    /**
+     * Immutable result of a completed cycle profiling
+     *
+     * @author Maksym.Rossiytsev
+     * @since 1.0.0
+     */
+    public static class CycleProfile {
+        private final Map<String, OrganizationProfile> organizations;
+        private final OrganizationProfile total;
+
+        CycleProfile(Map<String, OrganizationProfile> organizations, OrganizationProfile total) {
+            this.organizations = organizations;
+            this.total = total;
+        }
+
+        /**
+         * Retrieves {@link #organizations}
+         *
+         * @return value of {@link #organizations}
+         */
+        public Map<String, OrganizationProfile> getOrganizations() {
+            return organizations;
+        }
+
+        /**
+         * Retrieves {@link #total}
+         *
+         * @return value of {@link #total}
+         */
+        public OrganizationProfile getTotal() {
+            return total;
+        }
+    }
+
+    private final Map<String, OrganizationProfile> organizations = new ConcurrentHashMap<>();
+    private final Map<String, Integer> organizationOrder = new ConcurrentHashMap<>();
+    private final OrganizationProfile total = new OrganizationProfile();
+
+    /**
+     * Start profiling a page of organization places
+     *
+     * @param organizationId organization the page belongs to
+     * @param pageNumber 1-based number of the page
+     * @return new {@link PageProfile} instance
+     */
+    public PageProfile startPage(String organizationId, int pageNumber) {
+        organization(organizationId);
+        return new PageProfile(organizationId, pageNumber);
+    }
+
+    /**
+     * Record time spent in a stage, for a given organization
+     *
+     * @param organizationId organization to record time for, null for organization agnostic stages (i.e. sweep)
+     * @param stage to record time for
+     * @param nanos time in nanoseconds
+     */
+    public void record(String organizationId, Stage stage, long nanos) {
+        if (organizationId != null) {
+            organization(organizationId).stageNanos[stage.ordinal()].add(nanos);
+        }
+        total.stageNanos[stage.ordinal()].add(nanos);
+    }
+
+    /**
+     * Complete the profiling and build an immutable cycle profile
+     *
+     * @return {@link CycleProfile} instance
+     */
+    public CycleProfile complete() {
+        Map<String, OrganizationProfile> ordered = new LinkedHashMap<>();
+        organizationOrder.entrySet().stream().sorted(Map.Entry.comparingByValue())
+                .forEach(entry -> ordered.put(entry.getKey(), organizations.get(entry.getKey())));
+        return new CycleProfile(Collections.unmodifiableMap(ordered), total);
+    }
+
+    /**
+     * Account page processing time in the profile provided
+     *
+     * @param profile to account page in
+     * @param pageNanos page processing time in nanoseconds
+     */
+    private static void accountPage(OrganizationProfile profile, long pageNanos) {
+        profile.pages.incrementAndGet();
+        profile.pagesNanos.addAndGet(pageNanos);
+        profile.slowestPageNanos.accumulateAndGet(pageNanos, Math::max);
+    }
+
+    /**
+     * Retrieve organization profile, create one if it does not exist yet
+     *
+     * @param organizationId id of the organization
+     * @return {@link OrganizationProfile} instance
+     */
+    private OrganizationProfile organization(String organizationId) {
+        return organizations.computeIfAbsent(organizationId, id -> {
+            organizationOrder.put(id, organizationOrder.size());
+            return new OrganizationProfile();
+        });
+    }
+}
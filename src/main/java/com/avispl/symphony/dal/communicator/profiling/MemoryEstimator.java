@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.profiling;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shallow heap size estimator of the cached {@link AggregatedDevice} instances.
+ * Estimation is based on a 64-bit JVM with compressed oops and compact strings, which is the Symphony default,
+ * and is meant to track the cache growth rather than to provide an exact heap footprint.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public final class MemoryEstimator {
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    /** Number of the AggregatedDevice instance fields, all of them are references */
+    private static final int AGGREGATED_DEVICE_FIELDS = (int) Arrays.stream(AggregatedDevice.class.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers())).count();
+    /** AggregatedDevice header and its reference fields */
+    private static final int AGGREGATED_DEVICE = align(OBJECT_HEADER + AGGREGATED_DEVICE_FIELDS * REFERENCE);
+    /** String header, value reference, hash, coder and hashIsZero fields */
+    private static final int STRING = align(OBJECT_HEADER + REFERENCE + 4 + 1 + 1);
+    /** HashMap header, table, entrySet, keySet and values references, size, modCount, threshold and loadFactor */
+    private static final int HASH_MAP = align(OBJECT_HEADER + 4 * REFERENCE + 4 * 4);
+    /** HashMap.Node header, hash, key, value and next */
+    private static final int HASH_MAP_NODE = align(OBJECT_HEADER + 4 + 3 * REFERENCE);
+    /** ArrayList header, modCount, size and elementData */
+    private static final int ARRAY_LIST = align(OBJECT_HEADER + 4 + 4 + REFERENCE);
+    /** Boxed Long or Boolean value */
+    private static final int BOXED_VALUE = 16;
+
+    private MemoryEstimator() {
+    }
+
+    /**
+     * Estimate the heap size of a device, including its properties, statistics and strings
+     *
+     * @param device to estimate size of
+     * @return estimated size in bytes
+     */
+    public static long estimate(AggregatedDevice device) {
+        long size = AGGREGATED_DEVICE;
+        size += estimate(device.getDeviceId());
+        size += estimate(device.getDeviceName());
+        size += estimate(device.getDeviceMake());
+        size += estimate(device.getDeviceModel());
+        size += estimate(device.getDeviceType());
+        size += estimate(device.getType());
+        size += estimate(device.getCategory());
+        size += estimate(device.getSerialNumber());
+        size += estimate(device.getAviSplAssetId());
+        size += estimate(device.getOwnerAssetId());
+        size += device.getDeviceOnline() == null ? 0 : BOXED_VALUE;
+        size += device.getTimestamp() == null ? 0 : BOXED_VALUE;
+        size += estimate(device.getMacAddresses());
+        size += estimate(device.getProperties());
+        size += estimate(device.getStatistics());
+        size += estimate(device.getDynamicStatistics());
+        size += estimate(device.getControl());
+        size += estimateShell(device.getMonitoredStatistics());
+        size += estimateShell(device.getControllableProperties());
+        return size;
+    }
+
+    /**
+     * Estimate the heap size of the devices, see {@link #estimate(AggregatedDevice)}
+     *
+     * @param devices to estimate size of
+     * @return estimated size in bytes
+     */
+    public static long estimateDevices(Collection<AggregatedDevice> devices) {
+        long size = 0;
+        for (AggregatedDevice device : devices) {
+            size += estimate(device);
+        }
+        return size;
+    }
+
+    /**
+     * Estimate the heap size of a string
+     *
+     * @param value to estimate size of
+     * @return estimated size in bytes
+     */
+    public static long estimate(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return STRING + align(ARRAY_HEADER + (long) value.length() * bytesPerChar);
+    }
+
+    /**
+     * Estimate the heap size of a map of strings, assuming {@link java.util.HashMap} implementation
+     *
+     * @param map to estimate size of
+     * @return estimated size in bytes
+     */
+    public static long estimate(Map<String, String> map) {
+        if (map == null) {
+            return 0;
+        }
+        long size = HASH_MAP + align(ARRAY_HEADER + (long) tableCapacity(map.size()) * REFERENCE);
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            size += HASH_MAP_NODE + estimate(entry.getKey()) + estimate(entry.getValue());
+        }
+        return size;
+    }
+
+    /**
+     * Estimate the heap size of a list of strings, assuming {@link java.util.ArrayList} implementation
+     *
+     * @param list to estimate size of
+     * @return estimated size in bytes
+     */
+    public static long estimate(List<String> list) {
+        if (list == null) {
+            return 0;
+        }
+        long size = ARRAY_LIST + align(ARRAY_HEADER + (long) list.size() * REFERENCE);
+        for (String value : list) {
+            size += estimate(value);
+        }
+        return size;
+    }
+
+    /**
+     * Estimate the heap size of a list itself, assuming {@link java.util.ArrayList} implementation.
+     * Elements are not included, since the adapter does not populate the lists of this kind.
+     *
+     * @param list to estimate size of
+     * @return estimated size in bytes
+     */
+    private static long estimateShell(List<?> list) {
+        if (list == null) {
+            return 0;
+        }
+        return ARRAY_LIST + align(ARRAY_HEADER + (long) list.size() * REFERENCE);
+    }
+
+    /**
+     * Capacity of a hash table with the default load factor, holding the given number of entries
+     *
+     * @param entries number of entries
+     * @return table capacity
+     */
+    private static int tableCapacity(int entries) {
+        int capacity = 16;
+        while (capacity * 0.75 < entries) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Align size to 8 bytes, as the JVM does for every object
+     *
+     * @param size to align
+     * @return aligned size
+     */
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+
+    /**
+     * Align size to 8 bytes, as the JVM does for every object
+     *
+     * @param size to align
+     * @return aligned size
+     */
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory of the executors that run devices collection: the main collection loop, that fetches the places pages
+ * of the organizations one by one, and the places processing stage of each organization collection.
+ * This is the Java 21+ implementation, packaged under META-INF/versions/21 of the multi-release jar.
+ * Every task is started on a new virtual thread, so idle collectors, blocked in throttling sleeps and HTTP reads,
+ * do not hold platform threads.
+ *
+ * @author Maksym.Rossiytsev
+ * @since 1.0.0
+ */
+public final class CollectorExecutors {
+    private CollectorExecutors() {
+    }
+
+    /**
+     * Create new collector executor, that starts a new virtual thread for each task
+     *
+     * @param name prefix of the executor thread names
+     * @return {@link ExecutorService} instance
+     */
+    public static ExecutorService newCollectorExecutor(String name) {
+        ThreadFactory threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+        return Executors.newThreadPerTaskExecutor(threadFactory);
+    }
+
+    /**
+     * Check whether collector executors are backed by virtual threads
+     *
+     * @return true, virtual threads are used on this runtime
+     */
+    public static boolean isVirtual() {
+        return true;
+    }
+}
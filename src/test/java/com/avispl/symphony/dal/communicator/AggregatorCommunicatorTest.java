@@ -58,6 +58,8 @@ public class AggregatorCommunicatorTest {
         Assertions.assertNotNull(esMap.get("AdapterVersion"));
         Assertions.assertNotNull(dsMap.get("LastMonitoringCycleDuration(s)"));
         Assertions.assertNotNull(dsMap.get("MonitoredDevicesTotal"));
+        Assertions.assertNotNull(dsMap.get("CollectionProfile#HTTPWait(ms)"));
+        Assertions.assertNotNull(dsMap.get("CollectionProfile#Throttle(ms)"));
     }
 
     @Test
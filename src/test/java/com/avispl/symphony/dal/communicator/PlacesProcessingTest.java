@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Places of a page must result in the same devices, in the same order, whether they are processed sequentially
+ * or in parallel, with the thread-local device processors of the places processing pool.
+ */
+public class PlacesProcessingTest {
+    private static final String ORGANIZATION_ID = "organization";
+    private static final long PAGE_TIMESTAMP = 1700000000000L;
+    private static final int PLACES = 240;
+    private static final int PARALLELISM = 4;
+    private static final String DEVICE_TYPE = "Logitech";
+    /**
+     * Type that has no catalog section, devices of this type are processed as generic devices
+     */
+    private static final String UNKNOWN_DEVICE_TYPE = "Unknown";
+    private static final List<String> DEVICE_MODELS = Arrays.asList("Rally Bar", "Spot", "MeetUp", "Sight", "Rally Bar Mini", "Scribe");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testParallelProcessingMatchesSequential() throws Exception {
+        JsonNode places = createPlaces();
+        List<List<Object>> sequentialDevices = processPlaces(1, places);
+
+        Assertions.assertEquals(expectedDeviceIds(places), deviceIds(sequentialDevices));
+        for (List<Object> device : sequentialDevices) {
+            Assertions.assertNotNull(device.get(3), "Catalog model is expected for " + device.get(0));
+        }
+        for (int run = 0; run < 5; run++) {
+            Assertions.assertEquals(sequentialDevices, processPlaces(PARALLELISM, places));
+        }
+    }
+
+    /**
+     * Process the page with a communicator that has the given places processing parallelism
+     *
+     * @param parallelism places processing parallelism
+     * @param places places of the page
+     * @return devices extracted, each described with {@link #describe(AggregatedDevice)}
+     * @throws Exception if the communicator cannot be initialized
+     */
+    private List<List<Object>> processPlaces(int parallelism, JsonNode places) throws Exception {
+        LogiSyncCloudCommunicator communicator = new LogiSyncCloudCommunicator();
+        communicator.setHost("localhost");
+        communicator.setPlaceProcessingParallelism(parallelism);
+        communicator.init();
+        try {
+            Assertions.assertEquals(parallelism, communicator.getPlaceProcessingParallelism());
+            List<List<Object>> devices = new ArrayList<>();
+            for (AggregatedDevice device : communicator.processPlaces(ORGANIZATION_ID, places, PAGE_TIMESTAMP).values()) {
+                devices.add(describe(device));
+            }
+            return devices;
+        } finally {
+            communicator.destroy();
+        }
+    }
+
+    private static List<Object> describe(AggregatedDevice device) {
+        return Arrays.asList(device.getDeviceId(), device.getDeviceName(), device.getDeviceMake(), device.getDeviceModel(),
+                device.getType(), device.getCategory(), device.getSerialNumber(), device.getDeviceOnline(), device.getMacAddresses(),
+                device.getProperties(), device.getDynamicStatistics(), device.getTimestamp());
+    }
+
+    private static List<Object> deviceIds(List<List<Object>> devices) {
+        List<Object> deviceIds = new ArrayList<>();
+        for (List<Object> device : devices) {
+            deviceIds.add(device.get(0));
+        }
+        return deviceIds;
+    }
+
+    /**
+     * Ids of the devices that pass the model filter, in the order of the places
+     *
+     * @param places places of the page
+     * @return device ids
+     */
+    private static List<Object> expectedDeviceIds(JsonNode places) {
+        List<Object> deviceIds = new ArrayList<>();
+        for (JsonNode place : places) {
+            for (JsonNode device : place.at("/devices")) {
+                if (device.has("status")) {
+                    deviceIds.add(device.at("/id").asText());
+                }
+            }
+        }
+        return deviceIds;
+    }
+
+    private JsonNode createPlaces() {
+        ArrayNode places = objectMapper.createArrayNode();
+        for (int i = 0; i < PLACES; i++) {
+            ObjectNode place = places.addObject();
+            place.put("id", "place-" + i);
+            place.put("type", i % 2 == 0 ? "Room" : "Desk");
+            place.put("name", "Room " + i);
+            place.put("group", "Floor " + i % 5);
+            place.put("occupancy", i % 7);
+            place.put("createdAt", PAGE_TIMESTAMP - i * 86400000L);
+            place.put("seatCount", 4 + i % 9);
+            ArrayNode devices = place.putArray("devices");
+            for (int j = 0; j < 1 + i % 4; j++) {
+                String model = DEVICE_MODELS.get((i + j) % DEVICE_MODELS.size());
+                ObjectNode device = devices.addObject();
+                device.put("id", "device-" + i + "-" + j);
+                device.put("name", model);
+                device.put("type", (i + j) % 13 == 0 ? UNKNOWN_DEVICE_TYPE : DEVICE_TYPE);
+                device.put("serial", "SN" + i + "0" + j);
+                // Devices with no status are filtered out by the model mapping
+                if ((i + j) % 11 != 0) {
+                    device.put("status", (i + j) % 3 == 0 ? "Offline" : "Online");
+                }
+                device.put("version", "1." + i % 10 + "." + j);
+                device.put("healthStatus", j % 2 == 0 ? "Healthy" : "NeedsAttention");
+                device.put("createdAt", PAGE_TIMESTAMP - j * 3600000L);
+                if ("Spot".equals(model)) {
+                    ObjectNode sensors = device.putObject("sensors");
+                    sensors.put("co2", 400 + i);
+                    sensors.put("temperature", 20 + i % 5 / 2.0);
+                    sensors.put("humidity", 30 + j);
+                    sensors.put("presence", i % 2 == 0);
+                    sensors.put("latestTs", PAGE_TIMESTAMP - i);
+                }
+                ObjectNode peripherals = device.putObject("peripherals");
+                ObjectNode camera = peripherals.putObject("camera").putObject("count");
+                camera.put("actual", j % 2);
+                camera.put("expected", 1);
+                ObjectNode micPod = peripherals.putObject("micPod").putObject("count");
+                micPod.put("actual", i % 3);
+                micPod.put("expected", 2);
+                ObjectNode network = device.putObject("network");
+                network.put("ip", "10.0." + i % 256 + "." + j);
+                network.put("mac", String.format("00:11:22:33:%02x:%02x", i % 256, j));
+                network.put("hostName", "host-" + i + "-" + j);
+                ObjectNode wired = network.putObject("wired");
+                wired.put("mode", "DHCP");
+                wired.put("address", "10.0." + i % 256 + "." + j);
+                wired.putArray("dns").add("8.8.8.8").add("8.8.4.4");
+                network.putObject("wireless").put("ssid", "Office " + i % 3);
+            }
+        }
+        return places;
+    }
+}
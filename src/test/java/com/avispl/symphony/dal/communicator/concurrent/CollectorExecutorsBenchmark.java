@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.concurrent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares platform thread counts and collection throughput of {@link CollectorExecutors} implementations,
+ * with a simulated collection workload of multiple adapter instances. Not a unit test, since the implementation
+ * under test depends on how the classes are loaded: the Java 8 implementation is used when the benchmark runs
+ * against target/classes, the virtual threads implementation is used when it runs against the multi-release jar
+ * on a Java 21+ runtime. Both runs are needed for the comparison:
+ *
+ * <pre>
+ * mvn -B package -DskipTests                        (with JDK 21, so the java21 profile is active)
+ * mvn -B dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     com.avispl.symphony.dal.communicator.concurrent.CollectorExecutorsBenchmark [adapters] [seconds]
+ * java -cp target/&lt;artifact&gt;-1.0.0.jar:target/test-classes:$(cat target/classpath.txt) \
+ *     com.avispl.symphony.dal.communicator.concurrent.CollectorExecutorsBenchmark [adapters] [seconds]
+ * </pre>
+ *
+ * Each adapter instance has its own collector executor, and runs collection cycles the way the adapter does:
+ * the main loop submits the places processing stage, fetches {@link #PAGES} pages, each after a blocking HTTP wait
+ * and a throttling gap, and hands them over to the processing stage through a queue. Once the processing stage is
+ * over, the main loop sleeps until the next cycle.
+ */
+public class CollectorExecutorsBenchmark {
+    private static final int PAGES = 5;
+    private static final long HTTP_WAIT = 50;
+    private static final long THROTTLE = 100;
+    private static final long CYCLE_INTERVAL = 500;
+    private static final long THREADS_SAMPLING_INTERVAL = 100;
+    private static final Object END_OF_PAGES = new Object();
+
+    public static void main(String[] args) throws Exception {
+        int adapters = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        long duration = TimeUnit.SECONDS.toMillis(args.length > 1 ? Long.parseLong(args[1]) : 30);
+
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        int baselineThreads = threadMXBean.getThreadCount();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong pagesProcessed = new AtomicLong();
+        AtomicLong cyclesCompleted = new AtomicLong();
+        List<ExecutorService> executors = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < adapters; i++) {
+            ExecutorService executor = CollectorExecutors.newCollectorExecutor("Benchmark" + i);
+            executors.add(executor);
+            executor.submit(() -> {
+                while (running.get()) {
+                    runCollectionCycle(executor, pagesProcessed);
+                    cyclesCompleted.incrementAndGet();
+                    TimeUnit.MILLISECONDS.sleep(CYCLE_INTERVAL);
+                }
+                return null;
+            });
+        }
+        int peakThreads = 0;
+        while (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(duration)) {
+            TimeUnit.MILLISECONDS.sleep(THREADS_SAMPLING_INTERVAL);
+            peakThreads = Math.max(peakThreads, threadMXBean.getThreadCount() - baselineThreads);
+        }
+        running.set(false);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long pages = pagesProcessed.get();
+        long cycles = cyclesCompleted.get();
+
+        for (ExecutorService executor : executors) {
+            executor.shutdownNow();
+        }
+        for (ExecutorService executor : executors) {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+
+        System.out.println(String.format("Java %s, %s collector threads, %s adapters, %.0fs: peak platform threads +%s, "
+                        + "%.1f pages/s, %.1f cycles/s, %.1f%% of the ideal throughput",
+                System.getProperty("java.version"), CollectorExecutors.isVirtual() ? "virtual" : "platform", adapters, seconds,
+                peakThreads, pages / seconds, cycles / seconds, 100 * cycles / seconds / (adapters * 1000.0 / idealCycleMillis())));
+    }
+
+    /**
+     * Run a single collection cycle of an adapter instance
+     *
+     * @param executor collector executor of the adapter instance
+     * @param pagesProcessed counter of the pages processed
+     * @throws Exception if the cycle is interrupted, or processing fails
+     */
+    private static void runCollectionCycle(ExecutorService executor, AtomicLong pagesProcessed) throws Exception {
+        BlockingQueue<Object> pages = new ArrayBlockingQueue<>(2);
+        Future<?> processing = executor.submit(() -> {
+            while (pages.take() != END_OF_PAGES) {
+                pagesProcessed.incrementAndGet();
+            }
+            return null;
+        });
+        for (int page = 0; page < PAGES; page++) {
+            TimeUnit.MILLISECONDS.sleep(HTTP_WAIT);
+            pages.put(new Object());
+            TimeUnit.MILLISECONDS.sleep(THROTTLE);
+        }
+        pages.put(END_OF_PAGES);
+        processing.get();
+    }
+
+    /**
+     * Retrieves duration of a collection cycle, including the gap after it, with no scheduling delays
+     *
+     * @return time in milliseconds
+     */
+    private static long idealCycleMillis() {
+        return PAGES * (HTTP_WAIT + THROTTLE) + CYCLE_INTERVAL;
+    }
+}
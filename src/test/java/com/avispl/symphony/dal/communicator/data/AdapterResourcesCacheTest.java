@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.data;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLContext;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AdapterResourcesCacheTest {
+    private static final String CERTIFICATE = "certificate";
+    private static final String PASSWORD = "password";
+
+    @Test
+    public void testSlowBuildDoesNotBlockOtherCredentials() throws Exception {
+        CountDownLatch buildStarted = new CountDownLatch(1);
+        CountDownLatch buildReleased = new CountDownLatch(1);
+        AtomicInteger builds = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<SSLContext> slowContext = executor.submit(() -> AdapterResourcesCache.getSslContext(CERTIFICATE, "slow-key", PASSWORD, () -> {
+                builds.incrementAndGet();
+                buildStarted.countDown();
+                buildReleased.await();
+                return SSLContext.getInstance("TLS");
+            }));
+            Assertions.assertTrue(buildStarted.await(5, TimeUnit.SECONDS));
+            Future<SSLContext> sameContext = executor.submit(() -> AdapterResourcesCache.getSslContext(CERTIFICATE, "slow-key", PASSWORD, () -> {
+                builds.incrementAndGet();
+                return SSLContext.getInstance("TLS");
+            }));
+
+            // Other credentials are built while the slow build is in progress
+            SSLContext otherContext = executor.submit(() -> AdapterResourcesCache.getSslContext(CERTIFICATE, "other-key", PASSWORD,
+                    () -> SSLContext.getInstance("TLS"))).get(5, TimeUnit.SECONDS);
+            Assertions.assertFalse(sameContext.isDone());
+
+            buildReleased.countDown();
+            Assertions.assertSame(slowContext.get(5, TimeUnit.SECONDS), sameContext.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, builds.get());
+
+            int total = AdapterResourcesCache.getSslContextsTotal();
+            AdapterResourcesCache.releaseSslContext(otherContext);
+            AdapterResourcesCache.releaseSslContext(slowContext.get());
+            Assertions.assertEquals(total - 1, AdapterResourcesCache.getSslContextsTotal());
+            AdapterResourcesCache.releaseSslContext(sameContext.get());
+            Assertions.assertEquals(total - 2, AdapterResourcesCache.getSslContextsTotal());
+        } finally {
+            buildReleased.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedBuildIsNotCached() throws Exception {
+        Exception failure = new IllegalStateException("Unable to load the private key");
+        Exception thrown = Assertions.assertThrows(IllegalStateException.class,
+                () -> AdapterResourcesCache.getSslContext(CERTIFICATE, "invalid-key", PASSWORD, () -> {
+                    throw failure;
+                }));
+        Assertions.assertSame(failure, thrown);
+
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        Assertions.assertSame(sslContext, AdapterResourcesCache.getSslContext(CERTIFICATE, "invalid-key", PASSWORD, () -> sslContext));
+        AdapterResourcesCache.releaseSslContext(sslContext);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.data;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DynamicStatisticsDeadbandTest {
+    private static final long HEARTBEAT = 600000;
+    private static final String CO2 = "Sensors#CO2(ppm)";
+    private static final String HUMIDITY = "Sensors#Humidity(%)";
+    private static final String PRESENCE = "Sensors#Presence";
+    private static final String DEVICE_ID = "device-1";
+
+    @Test
+    public void testAbsoluteThreshold() {
+        DynamicStatisticsDeadband deadband = new DynamicStatisticsDeadband("Sensors#CO2(ppm):25", HEARTBEAT);
+
+        Assertions.assertEquals(Collections.singletonMap(CO2, "400"), retrieve(deadband, 0, CO2, "400"));
+        Assertions.assertEquals(Collections.emptyMap(), retrieve(deadband, 1000, CO2, "425"));
+        // Compared to the value reported the last time, not to the latest value
+        Assertions.assertEquals(Collections.singletonMap(CO2, "426"), retrieve(deadband, 2000, CO2, "426"));
+        Assertions.assertEquals(Collections.singletonMap(CO2, "400"), retrieve(deadband, 3000, CO2, "400"));
+    }
+
+    @Test
+    public void testRelativeThreshold() {
+        DynamicStatisticsDeadband deadband = new DynamicStatisticsDeadband(" Sensors#Humidity(%) : 10 % ", HEARTBEAT);
+
+        retrieve(deadband, 0, HUMIDITY, "40");
+        Assertions.assertEquals(Collections.emptyMap(), retrieve(deadband, 1000, HUMIDITY, "44"));
+        Assertions.assertEquals(Collections.emptyMap(), retrieve(deadband, 2000, HUMIDITY, "36"));
+        Assertions.assertEquals(Collections.singletonMap(HUMIDITY, "44.5"), retrieve(deadband, 3000, HUMIDITY, "44.5"));
+    }
+
+    @Test
+    public void testWildcardThreshold() {
+        DynamicStatisticsDeadband defaultDeadband = new DynamicStatisticsDeadband("Sensors#CO2(ppm):25", HEARTBEAT);
+        retrieve(defaultDeadband, 0, HUMIDITY, "40");
+        // Statistics that are not listed only suppress unchanged values by default
+        Assertions.assertEquals(Collections.emptyMap(), retrieve(defaultDeadband, 1000, HUMIDITY, "40"));
+        Assertions.assertEquals(Collections.singletonMap(HUMIDITY, "40.1"), retrieve(defaultDeadband, 2000, HUMIDITY, "40.1"));
+
+        DynamicStatisticsDeadband wildcardDeadband = new DynamicStatisticsDeadband("*:5,Sensors#CO2(ppm):25", HEARTBEAT);
+        retrieve(wildcardDeadband, 0, HUMIDITY, "40");
+        Assertions.assertEquals(Collections.emptyMap(), retrieve(wildcardDeadband, 1000, HUMIDITY, "45"));
+        Assertions.assertEquals(Collections.singletonMap(HUMIDITY, "45.5"), retrieve(wildcardDeadband, 2000, HUMIDITY, "45.5"));
+    }
+
+    @Test
+    public void testNonNumericValues() {
+        DynamicStatisticsDeadband deadband = new DynamicStatisticsDeadband("*:100", HEARTBEAT);
+
+        retrieve(deadband, 0, PRESENCE, "false");
+        Assertions.assertEquals(Collections.emptyMap(), retrieve(deadband, 1000, PRESENCE, "false"));
+        Assertions.assertEquals(Collections.singletonMap(PRESENCE, "true"), retrieve(deadband, 2000, PRESENCE, "true"));
+    }
+
+    @Test
+    public void testHeartbeat() {
+        DynamicStatisticsDeadband deadband = new DynamicStatisticsDeadband("*:100", HEARTBEAT);
+
+        retrieve(deadband, 0, CO2, "400");
+        Assertions.assertEquals(Collections.emptyMap(), retrieve(deadband, HEARTBEAT - 1, CO2, "400"));
+        Assertions.assertEquals(Collections.singletonMap(CO2, "400"), retrieve(deadband, HEARTBEAT, CO2, "400"));
+    }
+
+    @Test
+    public void testCollectionCyclesInBetweenOfRetrievals() {
+        DynamicStatisticsDeadband deadband = new DynamicStatisticsDeadband("*:0", HEARTBEAT);
+
+        retrieve(deadband, 0, CO2, "400");
+        // Two collection cycles publish the changed value before the next retrieval, neither of them reports it
+        deadband.retainDevices(Collections.singleton(DEVICE_ID));
+        deadband.retainDevices(Collections.singleton(DEVICE_ID));
+        Assertions.assertEquals(Collections.singletonMap(CO2, "450"), retrieve(deadband, 1000, CO2, "450"));
+        deadband.retainDevices(Collections.singleton(DEVICE_ID));
+        deadband.retainDevices(Collections.singleton(DEVICE_ID));
+        Assertions.assertEquals(Collections.emptyMap(), retrieve(deadband, 2000, CO2, "450"));
+    }
+
+    @Test
+    public void testRetainDevices() {
+        DynamicStatisticsDeadband deadband = new DynamicStatisticsDeadband("*:0", HEARTBEAT);
+
+        retrieve(deadband, 0, CO2, "400");
+        deadband.retainDevices(Collections.singleton(DEVICE_ID));
+        Assertions.assertEquals(Collections.emptyMap(), retrieve(deadband, 1000, CO2, "400"));
+        // Device is not published by a collection cycle, so it's reported in full when it comes back
+        deadband.retainDevices(Collections.emptySet());
+        Assertions.assertEquals(Collections.singletonMap(CO2, "400"), retrieve(deadband, 2000, CO2, "400"));
+    }
+
+    @Test
+    public void testLastCycleCounters() {
+        DynamicStatisticsDeadband deadband = new DynamicStatisticsDeadband("*:0", HEARTBEAT);
+
+        retrieve(deadband, 0, CO2, "400", HUMIDITY, "40");
+        Assertions.assertEquals(2, deadband.getLastCycleEmitted());
+        Assertions.assertEquals(0, deadband.getLastCycleSuppressed());
+        retrieve(deadband, 1000, CO2, "400", HUMIDITY, "41");
+        Assertions.assertEquals(1, deadband.getLastCycleEmitted());
+        Assertions.assertEquals(1, deadband.getLastCycleSuppressed());
+        retrieve(deadband, 2000, CO2, "400", HUMIDITY, "41");
+        Assertions.assertEquals(0, deadband.getLastCycleEmitted());
+        Assertions.assertEquals(2, deadband.getLastCycleSuppressed());
+    }
+
+    @Test
+    public void testInvalidConfiguration() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DynamicStatisticsDeadband("*:0", 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DynamicStatisticsDeadband("*:0", -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DynamicStatisticsDeadband("Sensors#CO2(ppm):-5", HEARTBEAT));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DynamicStatisticsDeadband("Sensors#CO2(ppm):-5%", HEARTBEAT));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DynamicStatisticsDeadband("Sensors#CO2(ppm):NaN", HEARTBEAT));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DynamicStatisticsDeadband("Sensors#CO2(ppm):abc", HEARTBEAT));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DynamicStatisticsDeadband("Sensors#CO2(ppm)", HEARTBEAT));
+    }
+
+    /**
+     * Retrieve a single device with the dynamic statistics provided
+     *
+     * @param deadband to retrieve the device with
+     * @param timestamp retrieval time in milliseconds
+     * @param statistics statistic names followed by their values
+     * @return dynamic statistics of the device that are reported
+     */
+    private static Map<String, String> retrieve(DynamicStatisticsDeadband deadband, long timestamp, String... statistics) {
+        AggregatedDevice device = new AggregatedDevice();
+        device.setDeviceId(DEVICE_ID);
+        Map<String, String> dynamicStatistics = new LinkedHashMap<>();
+        for (int i = 0; i < statistics.length; i += 2) {
+            dynamicStatistics.put(statistics[i], statistics[i + 1]);
+        }
+        device.setDynamicStatistics(dynamicStatistics);
+        List<AggregatedDevice> retrieved = deadband.apply(Collections.singletonList(device), timestamp);
+        Assertions.assertEquals(1, retrieved.size());
+        return retrieved.get(0).getDynamicStatistics();
+    }
+}
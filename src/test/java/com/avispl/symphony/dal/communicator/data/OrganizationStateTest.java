@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.data;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class OrganizationStateTest {
+    private static final long TOKEN_VALIDITY = 300000;
+    private static final long INITIAL_BACKOFF = 30000;
+    private static final long MAX_BACKOFF = 600000;
+    private static final long MIN_POLL_INTERVAL = 30000;
+    private static final long MAX_POLL_INTERVAL = 240000;
+
+    private OrganizationState organizationState;
+
+    @BeforeEach
+    public void setUp() {
+        organizationState = new OrganizationState("organization");
+    }
+
+    @Test
+    public void testResumeCheckpointWithinValidity() {
+        OrganizationState.PaginationCheckpoint checkpoint = checkpoint("token-3", 2, 1000, "device-1", "device-2");
+        organizationState.attempt(1000);
+        organizationState.failure(new IllegalStateException("Page 3 failed"), checkpoint, 2000, INITIAL_BACKOFF, MAX_BACKOFF);
+
+        OrganizationState.PaginationCheckpoint resumed = organizationState.resumeCheckpoint(1000 + TOKEN_VALIDITY, TOKEN_VALIDITY);
+        Assertions.assertSame(checkpoint, resumed);
+        Assertions.assertEquals("token-3", resumed.getContinuationToken());
+        Assertions.assertEquals(2, resumed.getPagesMerged());
+        Assertions.assertEquals(Arrays.asList("device-1", "device-2"), new ArrayList<>(resumed.getDevices().keySet()));
+        // Checkpoint is kept until the collection succeeds, so it can be resumed again
+        Assertions.assertSame(checkpoint, organizationState.getPaginationCheckpoint());
+    }
+
+    @Test
+    public void testResumeCheckpointAfterExpiry() {
+        organizationState.failure(new IllegalStateException("Page 3 failed"), checkpoint("token-3", 2, 1000, "device-1"), 2000, INITIAL_BACKOFF, MAX_BACKOFF);
+
+        Assertions.assertNull(organizationState.resumeCheckpoint(1001 + TOKEN_VALIDITY, TOKEN_VALIDITY));
+        Assertions.assertNull(organizationState.getPaginationCheckpoint());
+        Assertions.assertEquals(0, organizationState.getCheckpointEstimatedSize());
+        // Devices of the expired checkpoint are never published
+        Assertions.assertTrue(organizationState.getDevices().isEmpty());
+    }
+
+    @Test
+    public void testFailureWithoutCheckpointStartsOver() {
+        organizationState.failure(new IllegalStateException("Page 3 failed"), checkpoint("token-3", 2, 1000, "device-1"), 2000, INITIAL_BACKOFF, MAX_BACKOFF);
+        organizationState.failure(new IllegalStateException("Page 1 failed"), null, 3000, INITIAL_BACKOFF, MAX_BACKOFF);
+
+        Assertions.assertNull(organizationState.resumeCheckpoint(3000, TOKEN_VALIDITY));
+        Assertions.assertEquals(2, organizationState.getConsecutiveFailures());
+        Assertions.assertEquals(3000 + INITIAL_BACKOFF * 2, organizationState.getNextAttemptTimestamp());
+    }
+
+    @Test
+    public void testSuspendKeepsCheckpointWithoutFailure() {
+        organizationState.attempt(1000);
+        organizationState.success(devices("device-1"), 100, 0, 1500);
+        OrganizationState.PaginationCheckpoint checkpoint = checkpoint("token-2", 1, 2000, "device-1");
+        organizationState.suspend(checkpoint);
+
+        Assertions.assertSame(checkpoint, organizationState.resumeCheckpoint(2500, TOKEN_VALIDITY));
+        Assertions.assertEquals(0, organizationState.getConsecutiveFailures());
+        Assertions.assertNull(organizationState.getLatestError());
+        Assertions.assertFalse(organizationState.isBackingOff(2500));
+    }
+
+    @Test
+    public void testResumedMergeHasNoDuplicates() {
+        organizationState.failure(new IllegalStateException("Page 2 failed"), checkpoint("token-2", 1, 1000, "device-1", "device-2"),
+                2000, INITIAL_BACKOFF, MAX_BACKOFF);
+        OrganizationState.PaginationCheckpoint resumed = organizationState.resumeCheckpoint(3000, TOKEN_VALIDITY);
+
+        // Page 2 is fetched again after the resume, a device moved to another place shows up on it once more
+        Map<String, AggregatedDevice> mergedDevices = new LinkedHashMap<>(resumed.getDevices());
+        for (AggregatedDevice device : devices("device-2", "device-3").values()) {
+            mergedDevices.put(device.getDeviceId(), device);
+        }
+        organizationState.success(mergedDevices, 300, 0, 4000);
+
+        Assertions.assertEquals(Arrays.asList("device-1", "device-2", "device-3"), new ArrayList<>(organizationState.getDevices().keySet()));
+        Assertions.assertNull(organizationState.getPaginationCheckpoint());
+        Assertions.assertNull(organizationState.resumeCheckpoint(4000, TOKEN_VALIDITY));
+        Assertions.assertEquals(0, organizationState.getConsecutiveFailures());
+        Assertions.assertFalse(organizationState.isBackingOff(4000));
+    }
+
+    @Test
+    public void testCheckpointEstimatedSize() {
+        OrganizationState.PaginationCheckpoint checkpoint = new OrganizationState.PaginationCheckpoint("token-2", 1, 1000, null, 0);
+        organizationState.suspend(checkpoint.withDevices(devices("device-1"), 512));
+
+        Assertions.assertEquals(512, organizationState.getCheckpointEstimatedSize());
+        Assertions.assertEquals("token-2", organizationState.getPaginationCheckpoint().getContinuationToken());
+    }
+
+    @Test
+    public void testPollIntervalGrowsWithoutChanges() {
+        long timestamp = 0;
+        for (long expectedInterval : new long[]{MIN_POLL_INTERVAL, 60000, 120000, MAX_POLL_INTERVAL, MAX_POLL_INTERVAL}) {
+            timestamp += MIN_POLL_INTERVAL;
+            // Sensors readings, their timestamp and occupancy change with every poll, the rest stays the same
+            Map<String, AggregatedDevice> devices = devices("device-1", "device-2");
+            for (AggregatedDevice device : devices.values()) {
+                device.getProperties().put("Network#IPAddress", "10.0.0.1");
+                device.getProperties().put("Sensors#LatestTimestamp", String.valueOf(timestamp));
+                device.getProperties().put("Sensors#CO2(ppm)", String.valueOf(400 + timestamp % 7));
+                device.getProperties().put("Place#Occupancy", String.valueOf(timestamp % 3));
+            }
+            organizationState.attempt(timestamp);
+            organizationState.success(devices, 100, 0, timestamp);
+            organizationState.adaptPollInterval(MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+            Assertions.assertEquals(expectedInterval, organizationState.getPollInterval());
+        }
+        Assertions.assertEquals(0, organizationState.getChangeRatio(), 0);
+    }
+
+    @Test
+    public void testPollIntervalResetsOnChange() {
+        for (int i = 0; i < 3; i++) {
+            organizationState.success(devices("device-1", "device-2"), 100, 0, 1000);
+            organizationState.adaptPollInterval(MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+        }
+        Assertions.assertEquals(120000, organizationState.getPollInterval());
+
+        Map<String, AggregatedDevice> devices = devices("device-1", "device-2");
+        devices.get("device-2").setDeviceOnline(false);
+        organizationState.success(devices, 100, 0, 2000);
+        organizationState.adaptPollInterval(MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+        Assertions.assertEquals(0.5, organizationState.getChangeRatio(), 0);
+        Assertions.assertEquals(MIN_POLL_INTERVAL, organizationState.getPollInterval());
+
+        organizationState.success(devices("device-1", "device-2"), 100, 0, 3000);
+        organizationState.adaptPollInterval(MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+        organizationState.success(devices("device-1", "device-3"), 100, 0, 4000);
+        organizationState.adaptPollInterval(MIN_POLL_INTERVAL, MAX_POLL_INTERVAL);
+        // device-3 is added and device-2 is removed
+        Assertions.assertEquals(2.0 / 3, organizationState.getChangeRatio(), 0.001);
+        Assertions.assertEquals(MIN_POLL_INTERVAL, organizationState.getPollInterval());
+    }
+
+    private static OrganizationState.PaginationCheckpoint checkpoint(String continuationToken, int pagesMerged, long timestamp, String... deviceIds) {
+        return new OrganizationState.PaginationCheckpoint(continuationToken, pagesMerged, timestamp, Collections.unmodifiableMap(devices(deviceIds)), 0);
+    }
+
+    private static Map<String, AggregatedDevice> devices(String... deviceIds) {
+        Map<String, AggregatedDevice> devices = new LinkedHashMap<>();
+        for (String deviceId : deviceIds) {
+            AggregatedDevice device = new AggregatedDevice();
+            device.setDeviceId(deviceId);
+            device.setDeviceOnline(true);
+            device.setProperties(new HashMap<>());
+            devices.put(deviceId, device);
+        }
+        return devices;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.data;
+
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class PropertyGroupsFilterTest {
+
+    @Test
+    public void testGroupMatching() {
+        PropertyGroupsFilter filter = new PropertyGroupsFilter(Arrays.asList("network", "Peripheral*"));
+
+        Assertions.assertTrue(filter.isGroupEnabled("Network"));
+        Assertions.assertTrue(filter.isGroupEnabled("NETWORK"));
+        Assertions.assertFalse(filter.isGroupEnabled("NetworkWireless"));
+        Assertions.assertTrue(filter.isGroupEnabled("PeripheralCamera"));
+        Assertions.assertTrue(filter.isGroupEnabled("peripheralspeaker"));
+        Assertions.assertTrue(filter.isGroupEnabled("Peripheral"));
+        Assertions.assertFalse(filter.isGroupEnabled("Sensors"));
+        Assertions.assertFalse(filter.isGroupEnabled("Place"));
+    }
+
+    @Test
+    public void testPropertiesWithoutGroupAreKept() {
+        PropertyGroupsFilter filter = new PropertyGroupsFilter(Collections.singletonList("Network"));
+
+        Assertions.assertTrue(filter.isPropertyEnabled("HealthStatus"));
+        Assertions.assertTrue(filter.isPropertyEnabled("network#IPAddress"));
+        Assertions.assertFalse(filter.isPropertyEnabled("Sensors#CO2(ppm)"));
+    }
+
+    @Test
+    public void testFilterMapping() {
+        Map<String, PropertiesMapping> mapping = sampleMapping();
+        PropertyGroupsFilter filter = new PropertyGroupsFilter(Arrays.asList("Peripheral*", "sensors"));
+
+        Map<String, PropertiesMapping> filteredMapping = filter.filter(mapping);
+        PropertiesMapping generic = filteredMapping.get("Generic");
+        Assertions.assertEquals(Arrays.asList("CreatedAt", "Sensors#LatestTimestamp", "PeripheralCamera#CountActual", "PeripheralSpeaker#CountActual"),
+                new ArrayList<>(generic.getProperties().keySet()));
+        Assertions.assertEquals(Collections.singletonList("Sensors#CO2(ppm)"), new ArrayList<>(generic.getDynamicStatistics().keySet()));
+        Assertions.assertNull(generic.getStatistics());
+        Assertions.assertEquals("devices", generic.getNode());
+        Assertions.assertEquals(mapping.get("Generic").getDeviceProperties(), generic.getDeviceProperties());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> generic.getProperties().put("Network#IPAddress", ""));
+        // Shared mapping is not modified
+        Assertions.assertEquals(5, mapping.get("Generic").getProperties().size());
+    }
+
+    @Test
+    public void testUnrestrictedFilterKeepsMapping() {
+        Map<String, PropertiesMapping> mapping = sampleMapping();
+        PropertyGroupsFilter filter = new PropertyGroupsFilter(Collections.emptyList());
+
+        Assertions.assertTrue(filter.isUnrestricted());
+        Assertions.assertTrue(filter.isGroupEnabled("Network"));
+        Assertions.assertSame(mapping, filter.filter(mapping));
+    }
+
+    private static Map<String, PropertiesMapping> sampleMapping() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("CreatedAt", "at(\"/createdAt\")");
+        properties.put("Sensors#LatestTimestamp", "at(\"/sensors/latestTs\")");
+        properties.put("PeripheralCamera#CountActual", "at(\"/peripherals/camera/count/actual\").asInt()");
+        properties.put("PeripheralSpeaker#CountActual", "at(\"/peripherals/speaker/count/actual\").asInt()");
+        properties.put("Network#IPAddress", "at(\"/network/ip\")");
+        Map<String, String> dynamicStatistics = new LinkedHashMap<>();
+        dynamicStatistics.put("Sensors#CO2(ppm)", "at(\"/sensors/co2\").asText()");
+        dynamicStatistics.put("NetworkWireless#SignalStrength", "at(\"/network/wireless/signal\").asText()");
+        Map<String, String> deviceProperties = new LinkedHashMap<>();
+        deviceProperties.put("deviceId", "at(\"/id\")?.asText()");
+
+        Map<String, PropertiesMapping> mapping = new LinkedHashMap<>();
+        mapping.put("Generic", new PropertiesMapping("devices", "get(\"status\") != null", properties, null, dynamicStatistics, deviceProperties, null));
+        return mapping;
+    }
+}
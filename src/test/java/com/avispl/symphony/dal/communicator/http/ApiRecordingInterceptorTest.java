@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.http;
+
+import com.avispl.symphony.dal.communicator.data.RecordingMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+public class ApiRecordingInterceptorTest {
+    private static final String API_KEY = "api-key-value";
+    private static final String BEARER_TOKEN = "Bearer token-value";
+    private static final String CLIENT_SECRET = "client-secret-value";
+    private static final String NESTED_PASSWORD = "nested-password-value";
+
+    private File recordingFile;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        recordingFile = File.createTempFile("logi-sync-recording", ".gz");
+        recordingFile.delete();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        recordingFile.delete();
+    }
+
+    @Test
+    public void testRecordingIsRedacted() throws Exception {
+        ApiRecordingInterceptor recorder = new ApiRecordingInterceptor(RecordingMode.RECORD, recordingFile.getPath(), 0,
+                Arrays.asList("clientSecret", "PASSWORD"));
+        HttpRequest request = request("https://api.sync.logitech.com/org/1/place?limit=10");
+        request.getHeaders().add("Authorization", BEARER_TOKEN);
+        request.getHeaders().add("X-API-Key", API_KEY);
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.add("Authorization", BEARER_TOKEN);
+        responseHeaders.add("x-api-key", API_KEY);
+        responseHeaders.add("Content-Type", "application/json");
+        String body = "{\"clientSecret\":\"" + CLIENT_SECRET + "\",\"places\":[{\"id\":\"place-1\",\"auth\":{\"password\":\"" + NESTED_PASSWORD + "\"}}]}";
+
+        ClientHttpResponse response = recorder.intercept(request, new byte[0],
+                (executedRequest, executedBody) -> response(200, responseHeaders, body));
+
+        // Response consumed by the RestTemplate is never redacted
+        Assertions.assertEquals(body, read(response.getBody()));
+        String recording = read(new GZIPInputStream(new FileInputStream(recordingFile)));
+        Assertions.assertFalse(recording.contains(API_KEY), recording);
+        Assertions.assertFalse(recording.contains(BEARER_TOKEN), recording);
+        Assertions.assertFalse(recording.contains(CLIENT_SECRET), recording);
+        Assertions.assertFalse(recording.contains(NESTED_PASSWORD), recording);
+        Assertions.assertTrue(recording.contains("place-1"), recording);
+        Assertions.assertTrue(recording.contains("application/json"), recording);
+        Assertions.assertTrue(recording.contains("[REDACTED]"), recording);
+    }
+
+    @Test
+    public void testReplayCyclesResponsesInOrder() throws Exception {
+        ApiRecordingInterceptor recorder = new ApiRecordingInterceptor(RecordingMode.RECORD, recordingFile.getPath(), 0, Collections.emptyList());
+        AtomicInteger responseNumber = new AtomicInteger();
+        for (String uri : Arrays.asList("https://host/org/1/place?limit=10", "https://host/org/1/place?limit=10&continuation=abc",
+                "https://host/org/1/place?limit=10")) {
+            recorder.intercept(request(uri), new byte[0],
+                    (executedRequest, executedBody) -> response(200, new HttpHeaders(), "{\"response\":" + responseNumber.incrementAndGet() + "}"));
+        }
+
+        ApiRecordingInterceptor player = new ApiRecordingInterceptor(RecordingMode.REPLAY, recordingFile.getPath(), 0, Collections.emptyList());
+        // Replay never executes the request, host is not a part of the request key
+        String firstPage = "https://another-host/org/1/place?limit=10";
+        Assertions.assertEquals("{\"response\":1}", replay(player, firstPage));
+        Assertions.assertEquals("{\"response\":3}", replay(player, firstPage));
+        Assertions.assertEquals("{\"response\":2}", replay(player, "https://another-host/org/1/place?limit=10&continuation=abc"));
+        // Recorded responses of the request are over, replay starts over from the first one
+        Assertions.assertEquals("{\"response\":1}", replay(player, firstPage));
+        Assertions.assertThrows(IOException.class, () -> replay(player, "https://another-host/org/2/place?limit=10"));
+    }
+
+    private static String replay(ApiRecordingInterceptor player, String uri) throws IOException {
+        ClientHttpResponse response = player.intercept(request(uri), new byte[0], (executedRequest, executedBody) -> {
+            throw new AssertionError("Request must not be executed during replay");
+        });
+        Assertions.assertEquals(200, response.getStatusCode().value());
+        return read(response.getBody());
+    }
+
+    private static HttpRequest request(String uri) {
+        HttpHeaders headers = new HttpHeaders();
+        Map<String, Object> attributes = new HashMap<>();
+        return new HttpRequest() {
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+
+            @Override
+            public URI getURI() {
+                return URI.create(uri);
+            }
+
+            @Override
+            public HttpMethod getMethod() {
+                return HttpMethod.GET;
+            }
+
+            @Override
+            public Map<String, Object> getAttributes() {
+                return attributes;
+            }
+        };
+    }
+
+    private static ClientHttpResponse response(int statusCode, HttpHeaders headers, String body) {
+        return new BufferedClientHttpResponse(statusCode, "", headers, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(InputStream input) throws IOException {
+        try (InputStream stream = input) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            return new String(output.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.http;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LogiSyncCloudRequestInterceptorTest {
+
+    @Test
+    public void testTooManyRequestsRetry() throws Exception {
+        ApiCallStatistics apiCallStatistics = new ApiCallStatistics();
+        LogiSyncCloudRequestInterceptor interceptor = new LogiSyncCloudRequestInterceptor(apiCallStatistics);
+
+        Assertions.assertEquals(200, execute(interceptor, 429, 200).getStatusCode().value());
+        Assertions.assertEquals(2, apiCallStatistics.getRequestsTotal());
+        Assertions.assertEquals(1, apiCallStatistics.getTooManyRequestsTotal());
+
+        // Retry is rejected as well, both responses are counted
+        Assertions.assertEquals(429, execute(interceptor, 429, 429).getStatusCode().value());
+        Assertions.assertEquals(4, apiCallStatistics.getRequestsTotal());
+        Assertions.assertEquals(3, apiCallStatistics.getTooManyRequestsTotal());
+    }
+
+    /**
+     * Execute a request with the interceptor, responding with the status codes provided, one per execution
+     *
+     * @param interceptor to execute the request with
+     * @param statusCodes response status codes
+     * @return response returned by the interceptor
+     * @throws Exception if the request fails
+     */
+    private static ClientHttpResponse execute(LogiSyncCloudRequestInterceptor interceptor, Integer... statusCodes) throws Exception {
+        Deque<Integer> responses = new ArrayDeque<>(Arrays.asList(statusCodes));
+        ClientHttpResponse response = interceptor.intercept(request(), new byte[0],
+                (executedRequest, executedBody) -> new BufferedClientHttpResponse(responses.pop(), "", new HttpHeaders(), new byte[0]));
+        Assertions.assertTrue(responses.isEmpty());
+        return response;
+    }
+
+    private static HttpRequest request() {
+        HttpHeaders headers = new HttpHeaders();
+        Map<String, Object> attributes = new HashMap<>();
+        return new HttpRequest() {
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+
+            @Override
+            public URI getURI() {
+                return URI.create("https://api.sync.logitech.com/v1/org/organization/place");
+            }
+
+            @Override
+            public HttpMethod getMethod() {
+                return HttpMethod.GET;
+            }
+
+            @Override
+            public Map<String, Object> getAttributes() {
+                return attributes;
+            }
+        };
+    }
+}